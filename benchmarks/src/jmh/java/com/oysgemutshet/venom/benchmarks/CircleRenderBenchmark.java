@@ -0,0 +1,81 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.oysgemutshet.venom.BulletField;
+import com.oysgemutshet.venom.CircleBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of submitting N police bullets per frame: ShapeRenderer circles versus one
+ * CircleBatch quad (GL 2) or instance (GL 3) each. GL is a mock, so this is vertex building
+ * + upload calls only; draw calls and vertices per frame come out as {@link DrawCounters}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CircleRenderBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int count;
+
+    /** true: mock GL 3 context, so CircleBatch draws instanced */
+    @Param({"false", "true"})
+    public boolean gl30;
+
+    private MockGL gl;
+    private ShapeRenderer shapes;
+    private CircleBatch circles;
+    private BulletField bullets;
+    private final Matrix4 projection = new Matrix4().setToOrtho2D(0f, 0f, 1280f, 720f);
+
+    @Setup
+    public void setup() {
+        gl = MockGL.install(gl30);
+        shapes = new ShapeRenderer();
+        shapes.setProjectionMatrix(projection);
+        circles = new CircleBatch(count);
+
+        Random random = new Random(7);
+        bullets = new BulletField(4f, Float.MAX_VALUE, count);
+        for (int i = 0; i < count; i++) {
+            bullets.spawn(random.nextFloat() * 1280f, random.nextFloat() * 720f, 0f, 0f);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        shapes.dispose();
+        circles.dispose();
+    }
+
+    @Benchmark
+    public void shapeRenderer(DrawCounters counters) {
+        gl.resetCounters();
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        bullets.render(shapes, Color.LIGHT_GRAY, 1f);
+        shapes.end();
+        counters.record(gl);
+    }
+
+    @Benchmark
+    public void circleBatch(DrawCounters counters) {
+        gl.resetCounters();
+        circles.begin(projection);
+        bullets.render(circles, Color.LIGHT_GRAY, 1f);
+        circles.end();
+        counters.record(gl);
+    }
+}
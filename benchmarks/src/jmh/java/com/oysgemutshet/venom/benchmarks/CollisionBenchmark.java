@@ -0,0 +1,85 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.oysgemutshet.venom.SpatialHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The blob -> officer pass of LevelOneSimulation at horde sizes:
+ * the old nested loop against the spatial hash used now (including its per-tick rebuild).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int officerCount;
+
+    @Param({"4", "64", "512"})
+    public int blobCount;
+
+    private Rectangle[] officers;
+    private Rectangle[] blobs;
+    private final SpatialHash hash = new SpatialHash();
+    private final IntArray candidates = new IntArray();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        officers = new Rectangle[officerCount];
+        for (int i = 0; i < officerCount; i++) {
+            officers[i] = new Rectangle(random.nextFloat() * 1280f, 80f + random.nextFloat() * 400f, 26f, 60f);
+        }
+        blobs = new Rectangle[blobCount];
+        for (int i = 0; i < blobCount; i++) {
+            blobs[i] = new Rectangle(random.nextFloat() * 1280f, 80f + random.nextFloat() * 400f, 20f, 20f);
+        }
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        int hits = 0;
+        for (Rectangle blob : blobs) {
+            for (Rectangle officer : officers) {
+                if (officer.overlaps(blob)) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int spatialHash() {
+        hash.clear();
+        for (int i = 0; i < officers.length; i++) {
+            hash.insert(i, officers[i]);
+        }
+
+        int hits = 0;
+        for (Rectangle blob : blobs) {
+            candidates.clear();
+            hash.query(blob, candidates);
+            for (int c = 0; c < candidates.size; c++) {
+                if (officers[candidates.get(c)].overlaps(blob)) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+}
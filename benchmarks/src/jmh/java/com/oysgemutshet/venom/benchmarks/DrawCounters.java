@@ -0,0 +1,25 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Draw calls and vertices one benchmark op sent to {@link MockGL}, reported by JMH as the
+ * secondary results {@code drawCalls} and {@code vertices} next to the timing.
+ * Take it as a {@code @Benchmark} parameter, reset the mock at the start of the op and
+ * {@link #record} at the end.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class DrawCounters {
+
+    public long drawCalls;
+    public long vertices;
+
+    /** Keeps what the mock counted since its last reset; the latest op is what gets reported */
+    public void record(MockGL gl) {
+        drawCalls = gl.drawCalls;
+        vertices = gl.vertices;
+    }
+}
@@ -0,0 +1,112 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * GL20 (or GL30) that does nothing except count draw calls and submitted vertices, so benchmarks
+ * can measure the CPU side of ShapeRenderer / SpriteBatch without a GPU or a window.
+ * Shader compile and link always "succeed".
+ */
+public final class MockGL implements InvocationHandler {
+
+    public long drawCalls;
+    public long vertices;
+
+    private static MockGL installed;
+
+    private MockGL() {
+    }
+
+    /**
+     * Starts a headless application (for Gdx.app, Gdx.files and the natives) and installs
+     * the mock as Gdx.gl / Gdx.gl20. Safe to call more than once.
+     */
+    public static MockGL install() {
+        return install(false);
+    }
+
+    /**
+     * @param gl30 also install the mock as Gdx.gl30, so GL 3 paths (VAOs, instancing) are taken
+     */
+    public static synchronized MockGL install(boolean gl30) {
+        if (installed == null) {
+            HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+            config.updatesPerSecond = -1; // never call render(), we only want the statics
+            new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+            installed = new MockGL();
+            ShaderProgram.pedantic = false; // the mock reports no uniforms
+        }
+        Class<?> type = gl30 ? GL30.class : GL20.class;
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {type}, installed);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        Gdx.gl30 = gl30 ? (GL30) gl : null;
+        return installed;
+    }
+
+    public void resetCounters() {
+        drawCalls = 0;
+        vertices = 0;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "glDrawArrays":
+                drawCalls++;
+                vertices += (Integer) args[2];
+                return null;
+            case "glDrawElements":
+                drawCalls++;
+                vertices += (Integer) args[1];
+                return null;
+            case "glDrawArraysInstanced":
+                drawCalls++;
+                vertices += (long) (Integer) args[2] * (Integer) args[3];
+                return null;
+            case "glDrawElementsInstanced":
+                drawCalls++;
+                vertices += (long) (Integer) args[1] * (Integer) args[4];
+                return null;
+            case "glGetShaderiv":
+            case "glGetProgramiv":
+                // Compile / link status OK, zero active attributes / uniforms
+                int pname = (Integer) args[1];
+                IntBuffer out = (IntBuffer) args[2];
+                out.put(out.position(), pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+                return null;
+            case "glCheckFramebufferStatus":
+                return GL20.GL_FRAMEBUFFER_COMPLETE; // lets FrameBuffers (e.g. SceneryCache) be created
+            case "glCreateShader":
+            case "glCreateProgram":
+            case "glGenBuffer":
+            case "glGenTexture":
+            case "glGenFramebuffer":
+            case "glGenRenderbuffer":
+                return 1;
+            default:
+                break;
+        }
+
+        Class<?> type = method.getReturnType();
+        if (type == void.class) return null;
+        if (type == int.class) return 0;
+        if (type == boolean.class) return false;
+        if (type == float.class) return 0f;
+        if (type == String.class) return "";
+        return null;
+    }
+}
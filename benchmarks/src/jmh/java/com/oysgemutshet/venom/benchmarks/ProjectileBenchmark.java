@@ -0,0 +1,67 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.oysgemutshet.venom.BlobProjectile;
+import com.oysgemutshet.venom.BulletField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projectile update loops: the structure-of-arrays BulletField (update + collide against
+ * Venom) versus one BlobProjectile object per projectile.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectileBenchmark {
+
+    private static final float TICK = 1f / 60f;
+
+    @Param({"1000", "20000", "100000"})
+    public int count;
+
+    private BulletField field;
+    private BlobProjectile[] blobs;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(7);
+
+        // Huge bounds / lifetime and slow bullets: the population stays constant during the run
+        field = new BulletField(4f, Float.MAX_VALUE, count);
+        for (int i = 0; i < count; i++) {
+            field.spawn(random.nextFloat() * 1280f, random.nextFloat() * 720f,
+                random.nextFloat() * 2f - 1f, random.nextFloat() * 2f - 1f);
+        }
+
+        blobs = new BlobProjectile[count];
+        for (int i = 0; i < count; i++) {
+            blobs[i] = new BlobProjectile(random.nextFloat() * 1280f, random.nextFloat() * 720f, 1);
+        }
+    }
+
+    @Benchmark
+    public int bulletFieldUpdateAndCollide() {
+        field.update(TICK);
+        // A Venom-sized box far away from everything: measures the scan, removes nothing
+        return field.collide(-10000f, -10000f, -9960f, -9920f);
+    }
+
+    @Benchmark
+    public boolean blobObjectsUpdate() {
+        boolean alive = false;
+        for (BlobProjectile blob : blobs) {
+            blob.update(0f); // zero delta: never expires, still does all the per-object work
+            alive |= blob.isAlive();
+        }
+        return alive;
+    }
+}
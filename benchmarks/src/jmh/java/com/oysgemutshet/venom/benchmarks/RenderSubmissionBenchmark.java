@@ -0,0 +1,64 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.oysgemutshet.venom.PoliceOfficer;
+import com.oysgemutshet.venom.VenomPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of building ShapeRenderer vertices for Venom and N officers, as LevelOne.render
+ * does every frame. GL is a mock, so this is purely tessellation + vertex submission.
+ * Draw calls and vertices per frame are reported through {@link DrawCounters}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderSubmissionBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int officerCount;
+
+    private MockGL gl;
+    private ShapeRenderer shapes;
+    private VenomPlayer venom;
+    private PoliceOfficer[] officers;
+
+    @Setup
+    public void setup() {
+        gl = MockGL.install();
+        shapes = new ShapeRenderer();
+
+        venom = new VenomPlayer(600f, 80f);
+        officers = new PoliceOfficer[officerCount];
+        for (int i = 0; i < officerCount; i++) {
+            officers[i] = new PoliceOfficer((i * 37) % 1280, 80f, 1, 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        shapes.dispose();
+    }
+
+    @Benchmark
+    public void renderCharacters(DrawCounters counters) {
+        gl.resetCounters();
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        venom.render(shapes, 1f);
+        for (PoliceOfficer officer : officers) {
+            officer.render(shapes, 1f);
+        }
+        shapes.end();
+        counters.record(gl);
+    }
+}
@@ -0,0 +1,74 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.oysgemutshet.venom.InputSnapshot;
+import com.oysgemutshet.venom.PlatformIndex;
+import com.oysgemutshet.venom.VenomPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One VenomPlayer tick (input, gravity, swept movement against the platform index)
+ * in a level with N rooftops and a street spanning all of it. Venom plays at the far
+ * right end, so anything that scans platforms from the left edge shows up as cost
+ * growing with N. It should stay roughly flat.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VenomPlayerBenchmark {
+
+    private static final float TICK = 1f / 60f;
+    private static final float SPACING = 250f;
+    private static final float START_Y = 80f;
+
+    @Param({"4", "100", "1000", "10000"})
+    public int platformCount;
+
+    private VenomPlayer venom;
+    private float startX;
+    private PlatformIndex platforms;
+    private InputSnapshot[] script;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        // Street plus a row of rooftops at alternating heights, 250 units apart
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(-1000f, 50f, platformCount * SPACING + 2000f, 30f));
+        for (int i = 1; i < platformCount; i++) {
+            rects.add(new Rectangle(i * SPACING, 200f + (i % 3) * 80f, 180f, 20f));
+        }
+        platforms = new PlatformIndex(rects);
+
+        // A few rooftops in from the right end of the level
+        startX = (platformCount - 3) * SPACING;
+        venom = new VenomPlayer(startX, START_Y);
+        script = new InputSnapshot[] {
+            InputSnapshot.of(1, true, false, false, false, false),
+            InputSnapshot.of(1, false, false, false, false, false),
+            InputSnapshot.of(1, false, false, true, false, false),
+            InputSnapshot.of(-1, true, false, false, false, false),
+        };
+    }
+
+    @Benchmark
+    public float update() {
+        // Wander back and forth over the last few rooftops
+        if (++tick % 600 == 0) {
+            venom.getBounds().setPosition(startX, START_Y);
+            venom.getVelocity().setZero();
+        }
+        venom.update(TICK, script[(tick >> 4) & 3], platforms);
+        return venom.getBounds().y;
+    }
+}
@@ -0,0 +1,328 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.oysgemutshet.venom.EntityPools;
+import com.oysgemutshet.venom.InputSnapshot;
+import com.oysgemutshet.venom.LevelOneSimulation;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end soak test of the Level 1 loop: boots the headless backend, skips the intro and
+ * ticks {@link LevelOneSimulation} with scripted input for N simulated minutes, as fast as
+ * possible. When Venom dies the level restarts in place with the next seed, like a retry from
+ * game over: its blobs, officers and cars go back to the pools.
+ * <p>
+ * Writes a JSON report with ticks/sec, tick time percentiles, peak entity counts,
+ * allocated bytes and, per collector, the number of collections, the total time spent in
+ * them and the count, max and p99 of the individual pauses. One 80 ms pause is a visible
+ * stutter where forty 2 ms ones are not, and the totals alone can't tell them apart.
+ * Run with {@code ./gradlew :benchmarks:soak}.
+ * <p>
+ * Arguments: {@code --minutes N --seed S --tick-rate HZ --warmup SECONDS --out FILE}
+ */
+public class SoakRunner {
+
+    private float minutes = 10f;
+    private long seed = 1L;
+    private float tickRate = 60f;
+    private float warmupSeconds = 10f; // ticks in this window are run but not measured
+    private String out = "build/soak/soak-report.json";
+
+    public static void main(String[] args) {
+        final SoakRunner runner = new SoakRunner();
+        runner.parseArgs(args);
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // create() only, no render loop: the soak drives its own ticks
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                runner.run();
+            }
+        }, config);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--minutes": minutes = Float.parseFloat(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--tick-rate": tickRate = Float.parseFloat(value); break;
+                case "--warmup": warmupSeconds = Float.parseFloat(value); break;
+                case "--out": out = value; break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+    }
+
+    private void run() {
+        float delta = 1f / tickRate;
+        int warmupTicks = (int) (warmupSeconds * tickRate);
+        int ticks = (int) (minutes * 60f * tickRate);
+        long[] tickNanos = new long[ticks];
+
+        EntityPools pools = new EntityPools();
+        LevelOneSimulation sim = new LevelOneSimulation(seed, 0f, pools);
+        sim.skipToGameplay();
+        InputScript script = new InputScript(seed, tickRate);
+        int restarts = 0;
+
+        int peakBlobs = 0, peakOfficers = 0, peakBullets = 0, peakCars = 0;
+
+        for (int i = 0; i < warmupTicks; i++) {
+            sim.update(delta, script.next());
+            if (sim.isGameOver()) restart(sim, seed + 1000 + i);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        long[] gcCountBefore = new long[collectors.size()];
+        long[] gcTimeBefore = new long[collectors.size()];
+        for (int c = 0; c < collectors.size(); c++) {
+            gcCountBefore[c] = collectors.get(c).getCollectionCount();
+            gcTimeBefore[c] = collectors.get(c).getCollectionTime();
+        }
+        PauseRecorder pauses = new PauseRecorder(collectors);
+        pools.resetCounters();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ticks; i++) {
+            InputSnapshot input = script.next();
+
+            long t0 = System.nanoTime();
+            sim.update(delta, input);
+            tickNanos[i] = System.nanoTime() - t0;
+
+            peakBlobs = Math.max(peakBlobs, sim.getBlobs().size);
+            peakOfficers = Math.max(peakOfficers, sim.getPolice().size);
+            peakBullets = Math.max(peakBullets, sim.getPoliceBullets().size());
+            peakCars = Math.max(peakCars, sim.getPoliceCars().size);
+
+            if (sim.isGameOver()) {
+                restarts++;
+                restart(sim, seed + restarts);
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        long[] gcCounts = new long[collectors.size()];
+        for (int c = 0; c < collectors.size(); c++) {
+            gcCounts[c] = collectors.get(c).getCollectionCount() - gcCountBefore[c];
+        }
+        pauses.stop(collectors, gcCounts);
+
+        Arrays.sort(tickNanos);
+        StringWriter json = new StringWriter();
+        JsonWriter writer = new JsonWriter(json);
+        writer.setOutputType(JsonWriter.OutputType.json);
+        try {
+            writer.object()
+                .set("seed", seed)
+                .set("tickRate", tickRate)
+                .set("simulatedMinutes", minutes)
+                .set("ticks", ticks)
+                .set("restarts", restarts)
+                .set("wallSeconds", elapsed / 1e9)
+                .set("ticksPerSecond", ticks / (elapsed / 1e9));
+
+            writer.object("tickMicros")
+                .set("mean", elapsed / 1e3 / ticks)
+                .set("p50", percentile(tickNanos, 0.50) / 1e3)
+                .set("p99", percentile(tickNanos, 0.99) / 1e3)
+                .set("p999", percentile(tickNanos, 0.999) / 1e3)
+                .set("max", tickNanos[ticks - 1] / 1e3)
+                .pop();
+
+            writer.object("peakEntities")
+                .set("blobs", peakBlobs)
+                .set("officers", peakOfficers)
+                .set("policeBullets", peakBullets)
+                .set("policeCars", peakCars)
+                .pop();
+
+            writer.object("pools")
+                .set("hits", pools.getHits())
+                .set("misses", pools.getMisses())
+                .pop();
+
+            writer.object("allocation")
+                .set("bytes", allocated)
+                .set("bytesPerTick", (double) allocated / ticks)
+                .pop();
+
+            writer.array("gc");
+            for (int c = 0; c < collectors.size(); c++) {
+                GarbageCollectorMXBean gc = collectors.get(c);
+                long[] millis = pauses.sortedMillis(gc.getName());
+                writer.object()
+                    .set("name", gc.getName())
+                    .set("collections", gcCounts[c])
+                    .set("collectionMillis", gc.getCollectionTime() - gcTimeBefore[c]);
+                writer.object("pauses")
+                    .set("count", millis.length)
+                    .set("maxMillis", millis.length > 0 ? millis[millis.length - 1] : 0L)
+                    .set("p99Millis", millis.length > 0 ? percentile(millis, 0.99) : 0L)
+                    .pop();
+                writer.pop();
+            }
+            writer.pop();
+
+            writer.pop();
+            writer.close();
+
+            File file = new File(out);
+            if (file.getParentFile() != null) file.getParentFile().mkdirs();
+            Files.write(file.toPath(), json.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Couldn't write soak report to " + out, e);
+        }
+
+        System.out.println(json);
+        System.out.println("Soak report written to " + new File(out).getAbsolutePath());
+    }
+
+    private static void restart(LevelOneSimulation sim, long seed) {
+        sim.reset(seed);
+        sim.skipToGameplay();
+    }
+
+    /** Nearest-rank percentile of an already sorted array */
+    private static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    /**
+     * Records the duration of every collection from the JVM's GC notifications, per collector.
+     * The notifications arrive on a JMX thread, so whatever the listener allocates doesn't
+     * show up in the soak thread's allocation count.
+     */
+    private static class PauseRecorder implements NotificationListener {
+        private static final long DRAIN_TIMEOUT_MILLIS = 2000L;
+
+        private final Map<String, List<Long>> millis = new HashMap<>();
+
+        PauseRecorder(List<GarbageCollectorMXBean> collectors) {
+            for (GarbageCollectorMXBean gc : collectors) {
+                millis.put(gc.getName(), new ArrayList<Long>());
+                if (gc instanceof NotificationEmitter) {
+                    ((NotificationEmitter) gc).addNotificationListener(this, null, null);
+                }
+            }
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            String type = notification.getType();
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(type)) return;
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            synchronized (millis) {
+                List<Long> list = millis.get(info.getGcName());
+                if (list != null) list.add(info.getGcInfo().getDuration());
+            }
+        }
+
+        /**
+         * Waits for the notifications still on their way, up to a limit, then unregisters.
+         * {@code expected} is the number of collections each collector made while recording.
+         */
+        void stop(List<GarbageCollectorMXBean> collectors, long[] expected) {
+            long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+            while (!received(collectors, expected) && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(10L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            for (GarbageCollectorMXBean gc : collectors) {
+                if (gc instanceof NotificationEmitter) {
+                    try {
+                        ((NotificationEmitter) gc).removeNotificationListener(this);
+                    } catch (ListenerNotFoundException ignored) {
+                        // Never registered: nothing to remove
+                    }
+                }
+            }
+        }
+
+        private boolean received(List<GarbageCollectorMXBean> collectors, long[] expected) {
+            synchronized (millis) {
+                for (int c = 0; c < collectors.size(); c++) {
+                    if (millis.get(collectors.get(c).getName()).size() < expected[c]) return false;
+                }
+                return true;
+            }
+        }
+
+        long[] sortedMillis(String collector) {
+            synchronized (millis) {
+                List<Long> list = millis.get(collector);
+                long[] sorted = new long[list.size()];
+                for (int i = 0; i < sorted.length; i++) {
+                    sorted[i] = list.get(i);
+                }
+                Arrays.sort(sorted);
+                return sorted;
+            }
+        }
+    }
+
+    /**
+     * Seeded "player": every half second picks a direction and whether to jump,
+     * spit blobs or use the tongue, so every code path in the level keeps running.
+     * The direction is held for the half second; the buttons are pressed on its first
+     * tick only, as a key press would be.
+     */
+    private static class InputScript {
+        private final RandomXS128 random;
+        private final int ticksPerAction;
+        private int tick = 0;
+        private int axis = 0;
+
+        InputScript(long seed, float tickRate) {
+            this.random = new RandomXS128(seed ^ 0x5DEECE66DL);
+            this.ticksPerAction = Math.max(1, (int) (tickRate / 2f));
+        }
+
+        InputSnapshot next() {
+            if (tick++ % ticksPerAction == 0) {
+                axis = random.nextInt(3) - 1;
+                boolean jump = random.nextFloat() < 0.3f;
+                boolean blob = random.nextFloat() < 0.6f;
+                boolean tongue = !blob && random.nextFloat() < 0.5f;
+                return InputSnapshot.of(axis, jump, blob, tongue, false, false);
+            }
+            return InputSnapshot.of(axis, false, false, false, false, false);
+        }
+    }
+}
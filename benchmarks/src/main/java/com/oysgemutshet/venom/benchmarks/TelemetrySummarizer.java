@@ -0,0 +1,105 @@
+package com.oysgemutshet.venom.benchmarks;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline report for the CSV files written by {@link com.oysgemutshet.venom.TelemetryRecorder}:
+ * frame time percentiles per screen (IntroScreen, LevelScreen, GameOverScreen, ...),
+ * plus worst CPU time, peak entity counts and heap, and how many samples were dropped.
+ * <p>
+ * Arguments: telemetry directories and/or individual files. Files are read in name order,
+ * which is session + roll-over order. Run with {@code ./gradlew :benchmarks:summarizeTelemetry}.
+ */
+public class TelemetrySummarizer {
+
+    private static class ScreenStats {
+        final FloatArray frameMs = new FloatArray();
+        float worstCpuMs;
+        int peakOfficers, peakBullets, peakCars, peakBlobs;
+        long peakHeapKb;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: TelemetrySummarizer <telemetry dir or csv file>...");
+            System.exit(1);
+        }
+
+        List<File> files = new ArrayList<>();
+        for (String arg : args) {
+            File f = new File(arg);
+            File[] children = f.listFiles((dir, name) -> name.startsWith("telemetry-") && name.endsWith(".csv"));
+            if (children != null) {
+                files.addAll(Arrays.asList(children));
+            } else if (f.isFile()) {
+                files.add(f);
+            }
+        }
+        files.sort(null);
+
+        Map<String, ScreenStats> screens = new LinkedHashMap<>();
+        long dropped = 0;
+        for (File file : files) {
+            String screen = "(unknown)";
+            try (BufferedReader in = Files.newBufferedReader(file.toPath(), StandardCharsets.US_ASCII)) {
+                String row;
+                while ((row = in.readLine()) != null) {
+                    String[] c = row.split(",");
+                    switch (c[0]) {
+                        case "S":
+                            screen = c[2];
+                            break;
+                        case "D":
+                            dropped += Long.parseLong(c[2]);
+                            break;
+                        case "F":
+                            ScreenStats s = screens.computeIfAbsent(screen, k -> new ScreenStats());
+                            s.frameMs.add(Float.parseFloat(c[2]));
+                            s.worstCpuMs = Math.max(s.worstCpuMs, Float.parseFloat(c[3]));
+                            s.peakOfficers = Math.max(s.peakOfficers, Integer.parseInt(c[5]));
+                            s.peakBullets = Math.max(s.peakBullets, Integer.parseInt(c[6]));
+                            s.peakCars = Math.max(s.peakCars, Integer.parseInt(c[7]));
+                            s.peakBlobs = Math.max(s.peakBlobs, Integer.parseInt(c[8]));
+                            s.peakHeapKb = Math.max(s.peakHeapKb, Long.parseLong(c[9]));
+                            break;
+                        default:
+                            break; // truncated last line of a crashed session
+                    }
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Skipping rest of " + file + ": " + e);
+            }
+        }
+
+        System.out.println(files.size() + " file(s), " + dropped + " dropped sample(s)");
+        System.out.printf("%-16s %8s %8s %8s %8s %8s %8s %9s  %s%n",
+            "screen", "frames", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "worst cpu", "peak officers/bullets/cars/blobs, heap");
+        for (Map.Entry<String, ScreenStats> e : screens.entrySet()) {
+            ScreenStats s = e.getValue();
+            float[] sorted = s.frameMs.toArray();
+            Arrays.sort(sorted);
+            System.out.printf("%-16s %8d %8.2f %8.2f %8.2f %8.2f %8.2f %9.2f  %d/%d/%d/%d, %d MB%n",
+                e.getKey(), sorted.length,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), sorted[sorted.length - 1], s.worstCpuMs,
+                s.peakOfficers, s.peakBullets, s.peakCars, s.peakBlobs, s.peakHeapKb >> 10);
+        }
+    }
+
+    /** Nearest-rank percentile of an already sorted array */
+    private static float percentile(float[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+}
@@ -0,0 +1,340 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Loads textures, music, baked fonts and shape renderers through one AssetManager and shares
+ * them between screens. At startup the game {@link #preload}s what the menu and Level 1 need.
+ * The manager decodes files on its own thread, and {@link #update} finishes them on the GL
+ * thread a few milliseconds per frame while the splash screen is up. After that a screen's
+ * {@link #acquire} just returns the loaded object.
+ * <p>
+ * Every acquire needs a {@link #release}; screens must not dispose what they got from here.
+ * An asset nobody holds isn't unloaded right away but kept in a least recently used list, so
+ * going back into a level finds its textures still on the GPU. Only when the idle assets add up
+ * to more than the VRAM budget are the oldest of them unloaded.
+ */
+public class AssetService implements Disposable {
+
+    public static final AssetDescriptor<Texture> SPLASH_LOGO = new AssetDescriptor<>("splash/112-gaming.png", Texture.class);
+    public static final AssetDescriptor<Texture> CITY_NIGHT = new AssetDescriptor<>("backgrounds/city_night.png", Texture.class);
+    public static final AssetDescriptor<Music> THEME_MUSIC = new AssetDescriptor<>("music/boaz_and_the_dogs.mp3", Music.class);
+    public static final AssetDescriptor<BitmapFont> RUSSO_ONE_FONT = FontService.bakedFont(FontService.RUSSO_ONE);
+    /** A ShapeRenderer (its shader is what's worth sharing); made, not read from a file */
+    public static final AssetDescriptor<ShapeRenderer> SHAPES = new AssetDescriptor<>("shapes", ShapeRenderer.class);
+
+    /** Milliseconds of loading work the game allows itself per frame */
+    public static final int FRAME_BUDGET_MILLIS = 4;
+
+    /** Default for {@link #setVramBudget} */
+    public static final long DEFAULT_VRAM_BUDGET = 32L * 1024 * 1024;
+
+    private final AssetManager manager;
+    private long batchStart; // when the queue last went from empty to loading
+    private boolean batchLogged = true;
+
+    // Our references per asset; the manager itself holds exactly one for each of these
+    private final ObjectMap<String, Integer> refs = new ObjectMap<>();
+    // Assets with no references, least recently released first
+    private final Array<String> idle = new Array<>();
+    private long vramBudget = DEFAULT_VRAM_BUDGET;
+
+    /** Assets that had to be loaded synchronously because nothing preloaded them */
+    public int loadedOnDemand = 0;
+    /** Idle assets unloaded to stay under the VRAM budget */
+    public int evicted = 0;
+
+    public AssetService() {
+        FileHandleResolver resolver = new InternalFileHandleResolver();
+        manager = new AssetManager(resolver);
+        // All our .fnt files are distance field fonts baked by FontService
+        manager.setLoader(BitmapFont.class, new DistanceFieldFontLoader(resolver));
+        manager.setLoader(ShapeRenderer.class, new ShapeRendererLoader(resolver));
+    }
+
+    /** Whether the asset's file is present; music is optional in a checkout */
+    public static boolean exists(AssetDescriptor<?> asset) {
+        return asset.type == ShapeRenderer.class || Gdx.files.internal(asset.fileName).exists();
+    }
+
+    /**
+     * Queues assets to load in the background over the next {@link #update}s without holding
+     * on to them: once loaded they sit in the idle list until a screen acquires them. Missing
+     * files are skipped.
+     */
+    public void preload(AssetDescriptor<?>... assets) {
+        for (AssetDescriptor<?> asset : assets) {
+            if (!exists(asset)) {
+                Gdx.app.log("AssetService", "Not loading missing " + asset.fileName);
+                continue;
+            }
+            if (!refs.containsKey(asset.fileName)) {
+                manager.load(asset);
+                refs.put(asset.fileName, 0);
+                idle.add(asset.fileName);
+            }
+        }
+        startBatch();
+    }
+
+    /**
+     * Queues assets to load in the background over the next {@link #update}s, taking a
+     * reference to each like {@link #acquire}. Missing files are skipped.
+     *
+     * @return the assets that were queued; {@link #release} each of them when done
+     */
+    public Array<AssetDescriptor<?>> queue(AssetDescriptor<?>... assets) {
+        Array<AssetDescriptor<?>> queued = new Array<>(assets.length);
+        for (AssetDescriptor<?> asset : assets) {
+            if (!exists(asset)) {
+                Gdx.app.log("AssetService", "Not loading missing " + asset.fileName);
+                continue;
+            }
+            retain(asset);
+            queued.add(asset);
+        }
+        startBatch();
+        return queued;
+    }
+
+    private void startBatch() {
+        if (batchLogged && !manager.isFinished()) {
+            batchStart = TimeUtils.nanoTime();
+            batchLogged = false;
+        }
+    }
+
+    /**
+     * Does up to {@code budgetMillis} of queued loading (a single upload can overrun it).
+     *
+     * @return true when nothing is left to load
+     */
+    public boolean update(int budgetMillis) {
+        if (manager.isFinished()) return true;
+        // AssetManager.update(millis) checks a millisecond clock and overruns by a few ms;
+        // step it ourselves against nanoTime instead
+        long end = TimeUtils.nanoTime() + TimeUtils.millisToNanos(budgetMillis);
+        boolean done;
+        while (!(done = manager.update()) && TimeUtils.nanoTime() < end) {
+            Thread.yield(); // let the loader thread decode rather than spin against it
+        }
+        if (done && !batchLogged) {
+            batchLogged = true;
+            Gdx.app.log("AssetService", "Queue done in " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(batchStart))
+                + " ms, " + manager.getLoadedAssets() + " assets loaded");
+        }
+        return done;
+    }
+
+    public boolean isFinished() {
+        return manager.isFinished();
+    }
+
+    /** Whether all of these are loaded, so acquiring them won't block */
+    public boolean isLoaded(Array<AssetDescriptor<?>> assets) {
+        for (AssetDescriptor<?> asset : assets) {
+            if (!manager.isLoaded(asset.fileName, asset.type)) return false;
+        }
+        return true;
+    }
+
+    /** Fraction of the queued assets loaded so far, 0 to 1 */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * The loaded asset, loading it now if it wasn't (along with anything queued ahead of it).
+     * Pair with {@link #release}.
+     */
+    public <T> T acquire(AssetDescriptor<T> asset) {
+        if (!manager.isLoaded(asset.fileName, asset.type)) {
+            loadedOnDemand++;
+            Gdx.app.log("AssetService", "Loading " + asset.fileName + " on demand");
+        }
+        retain(asset);
+        return manager.finishLoadingAsset(asset);
+    }
+
+    /**
+     * Drops a reference taken by {@link #acquire} or {@link #queue}. With the last one the asset
+     * becomes idle, and the least recently used idle assets are unloaded if they are over budget.
+     */
+    public void release(AssetDescriptor<?> asset) {
+        Integer count = refs.get(asset.fileName);
+        if (count == null || count == 0) {
+            throw new IllegalArgumentException(asset.fileName + " is not acquired");
+        }
+        refs.put(asset.fileName, count - 1);
+        if (count == 1) {
+            idle.add(asset.fileName);
+            trim();
+        }
+    }
+
+    private void retain(AssetDescriptor<?> asset) {
+        Integer count = refs.get(asset.fileName);
+        if (count == null) {
+            manager.load(asset);
+            count = 0;
+        } else if (count == 0) {
+            idle.removeValue(asset.fileName, false); // back in use: keep it
+        }
+        refs.put(asset.fileName, count + 1);
+    }
+
+    /**
+     * Sets how many bytes of textures may stay loaded with nobody using them, and unloads
+     * idle assets until they fit.
+     */
+    public void setVramBudget(long bytes) {
+        vramBudget = bytes;
+        trim();
+    }
+
+    private void trim() {
+        long idleBytes = getIdleVramBytes();
+        for (int i = 0; idleBytes > vramBudget && i < idle.size; ) {
+            String fileName = idle.get(i);
+            long bytes = vramBytes(fileName);
+            if (bytes == 0L) {
+                i++; // unloading it wouldn't free any VRAM
+                continue;
+            }
+            idle.removeIndex(i);
+            idleBytes -= bytes;
+            refs.remove(fileName);
+            manager.unload(fileName);
+            evicted++;
+            Gdx.app.log("AssetService", "Evicted " + fileName + " (idle textures over the "
+                + vramBudget / 1024 + " KB budget)");
+        }
+    }
+
+    /** Estimated texture memory of every loaded asset, in use or idle */
+    public long getVramBytes() {
+        long bytes = 0L;
+        for (String fileName : refs.keys()) {
+            bytes += vramBytes(fileName);
+        }
+        return bytes;
+    }
+
+    /** Estimated texture memory of the assets nobody holds */
+    public long getIdleVramBytes() {
+        long bytes = 0L;
+        for (String fileName : idle) {
+            bytes += vramBytes(fileName);
+        }
+        return bytes;
+    }
+
+    /** Assets some screen holds */
+    public int getUsedCount() {
+        return refs.size - idle.size;
+    }
+
+    /** Assets loaded (or loading) that nobody holds */
+    public int getIdleCount() {
+        return idle.size;
+    }
+
+    // Textures and font pages; music streams and shape renderers count as nothing
+    private long vramBytes(String fileName) {
+        if (!manager.isLoaded(fileName)) return 0L;
+        Object asset = manager.get(fileName);
+        if (asset instanceof Texture) {
+            return textureBytes((Texture) asset);
+        }
+        if (asset instanceof BitmapFont) {
+            long bytes = 0L;
+            for (TextureRegion page : ((BitmapFont) asset).getRegions()) {
+                bytes += textureBytes(page.getTexture());
+            }
+            return bytes;
+        }
+        return 0L;
+    }
+
+    private static long textureBytes(Texture texture) {
+        int bytesPerPixel;
+        switch (texture.getTextureData().getFormat()) {
+            case Alpha:
+            case Intensity:
+                bytesPerPixel = 1;
+                break;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                bytesPerPixel = 2;
+                break;
+            default: // drivers tend to store RGB888 with a padding byte too
+                bytesPerPixel = 4;
+                break;
+        }
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel;
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+        refs.clear();
+        idle.clear();
+    }
+
+    /**
+     * BitmapFontLoader, but making a DistanceFieldFont; the .fnt parsing stays on the loader
+     * thread and the page textures are ordinary dependencies.
+     */
+    private static class DistanceFieldFontLoader extends BitmapFontLoader {
+
+        DistanceFieldFontLoader(FileHandleResolver resolver) {
+            super(resolver);
+        }
+
+        @Override
+        public BitmapFont loadSync(AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
+            BitmapFont font = super.loadSync(manager, fileName, file, parameter);
+            return new DistanceFieldFont(font.getData(), font.getRegions(), false); // pages get linear filtering
+        }
+    }
+
+    /** Makes ShapeRenderers, so they can be shared and counted like the file assets */
+    private static class ShapeRendererLoader extends SynchronousAssetLoader<ShapeRenderer, ShapeRendererLoader.Parameters> {
+
+        static class Parameters extends AssetLoaderParameters<ShapeRenderer> {
+        }
+
+        ShapeRendererLoader(FileHandleResolver resolver) {
+            super(resolver);
+        }
+
+        @Override
+        public ShapeRenderer load(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+            return new ShapeRenderer();
+        }
+
+        @Override
+        public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+            return null;
+        }
+    }
+}
@@ -1,30 +1,60 @@
 package com.oysgemutshet.venom;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
 
 
-public class BlobProjectile {
+public class BlobProjectile implements Pool.Poolable {
 
     private static final float SPEED = 420f;
     private static final float MAX_LIFE = 1.6f; // seconds
     private static final float BASE_RADIUS = 10f;
 
+    // Packed colors of the flying phase
+    private static final float BODY_COLOR = Color.toFloatBits(0.02f, 0.02f, 0.06f, 1f);
+    private static final float GOO_COLOR = Color.toFloatBits(0.02f, 0.02f, 0.10f, 1f);
+    private static final float HIGHLIGHT_COLOR = Color.toFloatBits(0.45f, 0.45f, 0.8f, 1f);
+
     private final Vector2 position = new Vector2();
+    private final Vector2 prevPosition = new Vector2(); // for render interpolation
     private final Vector2 velocity = new Vector2();
+    private final Rectangle bounds = new Rectangle(0, 0, BASE_RADIUS * 2f, BASE_RADIUS * 2f); // reused, see getBounds()
     private float age = 0f;
     private boolean alive = true;
 
+    /** Pooled instances start dead; call {@link #init} before use */
+    public BlobProjectile() {
+        alive = false;
+    }
+
     public BlobProjectile(float x, float y, int dir) {
+        init(x, y, dir);
+    }
+
+    public void init(float x, float y, int dir) {
         position.set(x, y);
+        prevPosition.set(x, y);
         velocity.set(SPEED * dir, 0f); // horizontal shot
+        age = 0f;
+        alive = true;
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        prevPosition.setZero();
+        velocity.setZero();
+        age = 0f;
+        alive = false;
     }
 
     public void update(float delta) {
         if (!alive) return;
 
+        prevPosition.set(position);
         age += delta;
         position.mulAdd(velocity, delta);
 
@@ -33,10 +63,13 @@ public class BlobProjectile {
         }
     }
 
-    public void render(ShapeRenderer renderer) {
+    public void render(DrawList list, float alpha) {
         if (!alive) return;
 
         float t = age / MAX_LIFE; // 0 → 1
+        float px = MathUtils.lerp(prevPosition.x, position.x, alpha);
+        float py = MathUtils.lerp(prevPosition.y, position.y, alpha);
+        int layer = DrawList.LAYER_PROJECTILES;
 
         // Main blob radius
         float r = BASE_RADIUS * (1.0f - 0.15f * t);
@@ -45,32 +78,29 @@ public class BlobProjectile {
             // ===== PHASE 1: flying / impact =====
 
             // Main dark blob
-            renderer.setColor(0.02f, 0.02f, 0.06f, 1f);
-            renderer.circle(position.x, position.y, r);
+            list.circle(layer, px, py, r, BODY_COLOR);
 
             // Goo droplets / smear
-            renderer.setColor(0.02f, 0.02f, 0.10f, 1f);
-            renderer.circle(position.x - 0.6f * r, position.y - 0.2f * r, r * 0.35f);
-            renderer.circle(position.x + 0.5f * r, position.y + 0.1f * r, r * 0.25f);
+            list.circle(layer, px - 0.6f * r, py - 0.2f * r, r * 0.35f, GOO_COLOR);
+            list.circle(layer, px + 0.5f * r, py + 0.1f * r, r * 0.25f, GOO_COLOR);
 
             // Highlight (shiny top)
-            renderer.setColor(0.45f, 0.45f, 0.8f, 1f);
-            renderer.circle(position.x - 0.2f * r, position.y + 0.4f * r, r * 0.25f);
+            list.circle(layer, px - 0.2f * r, py + 0.4f * r, r * 0.25f, HIGHLIGHT_COLOR);
 
         } else {
             // ===== PHASE 2: dissipate into droplets =====
             float fade = (t - 0.05f) / 0.3f; // 0 → 1 over last 30% of life
-            float alpha = 1.0f - fade;      // fade out
+            float dropAlpha = 1.0f - fade;  // fade out
             float base = r * (1.0f - 0.5f * fade);
 
             // 3–4 small droplets breaking apart
-            renderer.setColor(0.05f, 0.05f, 0.15f, alpha);
-            renderer.circle(position.x + 0.2f * r, position.y - 0.1f * r, base * 0.7f);
-            renderer.circle(position.x - 0.4f * r, position.y - 0.3f * r, base * 0.5f);
+            float dark = Color.toFloatBits(0.05f, 0.05f, 0.15f, MathUtils.clamp(dropAlpha, 0f, 1f));
+            list.circle(layer, px + 0.2f * r, py - 0.1f * r, base * 0.7f, dark);
+            list.circle(layer, px - 0.4f * r, py - 0.3f * r, base * 0.5f, dark);
 
-            renderer.setColor(0.10f, 0.10f, 0.25f, alpha * 0.9f);
-            renderer.circle(position.x + 0.1f * r, position.y - 0.4f * r, base * 0.4f);
-            renderer.circle(position.x - 0.2f * r, position.y - 0.5f * r, base * 0.3f);
+            float light = Color.toFloatBits(0.10f, 0.10f, 0.25f, MathUtils.clamp(dropAlpha * 0.9f, 0f, 1f));
+            list.circle(layer, px + 0.1f * r, py - 0.4f * r, base * 0.4f, light);
+            list.circle(layer, px - 0.2f * r, py - 0.5f * r, base * 0.3f, light);
         }
     }
 
@@ -79,10 +109,11 @@ public class BlobProjectile {
         return alive;
     }
 
+    // Simple generous rectangle; fine for this game.
+    // Updated in place and returned as-is, so don't hold on to it across ticks.
     public Rectangle getBounds() {
-        // simple generous rectangle; fine for this game
         float r = BASE_RADIUS;
-        return new Rectangle(position.x - r, position.y - r, r * 2f, r * 2f);
+        return bounds.setPosition(position.x - r, position.y - r);
     }
 
     public void destroy() {
@@ -0,0 +1,183 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * All bullets of one kind, stored as parallel primitive arrays (structure of arrays)
+ * instead of one object per bullet. Live bullets are always packed in {@code [0, size)};
+ * removing one moves the last bullet into its slot.
+ * <p>
+ * Movement is a single branch-free loop over plain float arrays, which the JIT can unroll
+ * and vectorize, so tens of thousands of bullets per tick are cheap. Arrays only grow
+ * (doubling), so steady-state ticks allocate nothing.
+ */
+public class BulletField {
+
+    private final float radius;
+    private final float maxAge;
+
+    // Bullets leaving this box are removed
+    private float minX, minY, maxX, maxY;
+
+    private float[] x, y, prevX, prevY, vx, vy, age;
+    private int size = 0;
+
+    /**
+     * @param radius          collision / draw radius of every bullet
+     * @param maxAge          seconds after which a bullet is removed even if still on screen
+     * @param initialCapacity starting array length; grows as needed
+     */
+    public BulletField(float radius, float maxAge, int initialCapacity) {
+        this.radius = radius;
+        this.maxAge = maxAge;
+        allocate(Math.max(16, initialCapacity));
+        setBounds(-Float.MAX_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE);
+    }
+
+    /** Area bullets live in (usually the screen); anything outside it by more than a radius is culled */
+    public void setBounds(float minX, float minY, float maxX, float maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    public void spawn(float px, float py, float velX, float velY) {
+        if (size == x.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        vx[i] = velX;
+        vy[i] = velY;
+        age[i] = 0f;
+    }
+
+    public void update(float delta) {
+        int n = size;
+        float[] x = this.x, y = this.y, vx = this.vx, vy = this.vy, age = this.age;
+
+        // Keep last tick's positions for render interpolation
+        System.arraycopy(x, 0, prevX, 0, n);
+        System.arraycopy(y, 0, prevY, 0, n);
+
+        // Integrate: no branches, no calls
+        for (int i = 0; i < n; i++) {
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            age[i] += delta;
+        }
+
+        // Cull expired / offscreen bullets
+        float left = minX - radius, right = maxX + radius;
+        float bottom = minY - radius, top = maxY + radius;
+        for (int i = n - 1; i >= 0; i--) {
+            if (age[i] > maxAge || x[i] < left || x[i] > right || y[i] < bottom || y[i] > top) {
+                removeIndex(i);
+            }
+        }
+    }
+
+    /**
+     * Removes every bullet overlapping the box and returns how many there were.
+     */
+    public int collide(Rectangle r) {
+        return collide(r.x, r.y, r.x + r.width, r.y + r.height);
+    }
+
+    public int collide(float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        // Expand the box by the radius once, then test bullet centres against it
+        float left = boxMinX - radius, right = boxMaxX + radius;
+        float bottom = boxMinY - radius, top = boxMaxY + radius;
+
+        int hits = 0;
+        float[] x = this.x, y = this.y;
+        for (int i = size - 1; i >= 0; i--) {
+            if (x[i] > left && x[i] < right && y[i] > bottom && y[i] < top) {
+                removeIndex(i);
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    public void render(ShapeRenderer renderer, Color color, float alpha) {
+        renderer.setColor(color);
+        for (int i = 0; i < size; i++) {
+            float px = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float py = prevY[i] + (y[i] - prevY[i]) * alpha;
+            renderer.circle(px, py, radius);
+        }
+    }
+
+    /** Same as above, one quad per bullet in the circle batch */
+    public void render(CircleBatch circles, Color color, float alpha) {
+        float packed = color.toFloatBits();
+        float[] x = this.x, y = this.y, prevX = this.prevX, prevY = this.prevY;
+        for (int i = 0; i < size; i++) {
+            circles.circle(prevX[i] + (x[i] - prevX[i]) * alpha, prevY[i] + (y[i] - prevY[i]) * alpha, radius, packed);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    private void removeIndex(int i) {
+        int last = --size;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        age = Arrays.copyOf(age, capacity);
+    }
+}
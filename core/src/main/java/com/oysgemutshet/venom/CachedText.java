@@ -0,0 +1,168 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * One piece of text laid out into a BitmapFontCache and redrawn from its vertices.
+ * {@code BitmapFont.draw} lays the string out again on every call; here that only happens
+ * when the characters, scale or alignment change. Moving, recolouring or fading the text just
+ * rewrites the cached vertices.
+ * <p>
+ * For values that change (scores, timers, the profiler HUD) build the text in a reused
+ * StringBuilder and pass it to {@link #setText}: it is compared with the cached characters and
+ * only copied and laid out when it differs, so an unchanged value costs no allocation and no
+ * layout.
+ * <p>
+ * The shared font's scale is only touched while laying out, and put back right after: each
+ * text keeps its own scale, and a distance field font's edge smoothing is set from it at draw
+ * time, so texts of different sizes can be drawn one after another without rescaling the font.
+ * <p>
+ * The anchor is the first line's top, at {@code x} for left aligned text, its centre for
+ * {@link Align#center} and its right end for {@link Align#right}, like
+ * {@code BitmapFont.draw(batch, str, x, y, 0, halign, false)}.
+ */
+public class CachedText {
+
+    private final BitmapFont font;
+    private final BitmapFontCache cache;
+    private final float smoothing; // distance field smoothing at scale 1; 0 for an ordinary font
+    private final StringBuilder text = new StringBuilder();
+    private final Color color = new Color(Color.WHITE);
+
+    private float scale = 1f;
+    private int halign = Align.left;
+    private float x, y;
+    private float width, height;
+    private boolean dirty = true;      // needs laying out
+    private boolean colorDirty = false; // laid out, but the vertex colors are stale
+
+    /** Times the text was actually laid out; for checking that static text stays cached */
+    public int layouts = 0;
+
+    public CachedText(BitmapFont font) {
+        this.font = font;
+        // A plain cache even for a distance field font: DistanceFieldFontCache would read the smoothing
+        // scale off the shared font, see draw()
+        this.cache = new BitmapFontCache(font, font.usesIntegerPositions());
+        this.smoothing = font instanceof DistanceFieldFont ? ((DistanceFieldFont) font).getDistanceFieldSmoothing() : 0f;
+    }
+
+    public CachedText(BitmapFont font, CharSequence text, float scale, int halign) {
+        this(font);
+        setText(text);
+        setScale(scale);
+        setAlign(halign);
+    }
+
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    public CachedText setText(CharSequence value) {
+        if (!contentEquals(value)) {
+            text.setLength(0);
+            text.append(value);
+            dirty = true;
+        }
+        return this;
+    }
+
+    /** Font scale; for FontService fonts use {@link FontService#scaleFor(float)} */
+    public CachedText setScale(float scale) {
+        if (scale != this.scale) {
+            this.scale = scale;
+            dirty = true;
+        }
+        return this;
+    }
+
+    public CachedText setAlign(int halign) {
+        if (halign != this.halign) {
+            this.halign = halign;
+            dirty = true;
+        }
+        return this;
+    }
+
+    public CachedText setPosition(float x, float y) {
+        if (x != this.x || y != this.y) {
+            if (!dirty) cache.translate(x - this.x, y - this.y);
+            this.x = x;
+            this.y = y;
+        }
+        return this;
+    }
+
+    public CachedText setColor(Color color) {
+        return setColor(color.r, color.g, color.b, color.a);
+    }
+
+    public CachedText setColor(float r, float g, float b, float a) {
+        if (color.r != r || color.g != g || color.b != b || color.a != a) {
+            color.set(r, g, b, a);
+            colorDirty = true;
+        }
+        return this;
+    }
+
+    public float getWidth() {
+        layout();
+        return width;
+    }
+
+    public float getHeight() {
+        layout();
+        return height;
+    }
+
+    public void draw(Batch batch) {
+        layout();
+        if (colorDirty) {
+            cache.setColors(color);
+            colorDirty = false;
+        }
+        if (smoothing == 0f) {
+            cache.draw(batch);
+            return;
+        }
+        // What DistanceFieldFontCache does, with this text's scale instead of the font's
+        setSmoothing(batch, smoothing * scale);
+        cache.draw(batch);
+        setSmoothing(batch, 0f);
+    }
+
+    private static void setSmoothing(Batch batch, float value) {
+        batch.flush();
+        batch.getShader().setUniformf("u_smoothing", value);
+    }
+
+    private void layout() {
+        if (!dirty) return;
+        BitmapFont.BitmapFontData data = font.getData();
+        float oldScaleX = data.scaleX, oldScaleY = data.scaleY;
+        data.setScale(scale);
+        cache.setColor(color);
+        GlyphLayout layout = cache.setText(text, x, y, 0f, halign, false);
+        width = layout.width;
+        height = layout.height;
+        data.setScale(oldScaleX, oldScaleY);
+        dirty = false;
+        colorDirty = false;
+        layouts++;
+    }
+
+    private boolean contentEquals(CharSequence value) {
+        int length = value.length();
+        if (length != text.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) != value.charAt(i)) return false;
+        }
+        return true;
+    }
+}
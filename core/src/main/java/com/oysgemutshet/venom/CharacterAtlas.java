@@ -0,0 +1,165 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * The procedurally drawn characters (Venom, officers, police cars) rasterized once into a
+ * single texture, so each one is drawn as one SpriteBatch quad instead of 10-30 ShapeRenderer
+ * rects. Frames are baked by running the same drawFigure code the procedural path uses:
+ * <ul>
+ *     <li>Venom: standing + {@link #WALK_FRAMES} walk phases, facing right and left.
+ *     The tongue changes length continuously, so it stays a separate stretched quad.</li>
+ *     <li>Officer: one frame.</li>
+ *     <li>Police car: both light bar blink states.</li>
+ * </ul>
+ * Baked at a whole number of pixels per world unit (at least the window's scale) and
+ * rebaked when that changes. The texture holds premultiplied alpha, so frames are submitted to
+ * the {@link DrawList} as premultiplied sprites.
+ */
+public class CharacterAtlas implements Disposable {
+
+    public static final int WALK_FRAMES = 8;
+
+    // Empty border around every figure (world units): hats, light bars and legs stick out of the bounds
+    private static final float PAD = 16f;
+
+    private static final float VENOM_CELL_W = VenomPlayer.WIDTH + PAD * 2f;
+    private static final float VENOM_CELL_H = VenomPlayer.HEIGHT + PAD * 2f;
+    private static final float OFFICER_CELL_W = PoliceOfficer.WIDTH + PAD * 2f;
+    private static final float OFFICER_CELL_H = PoliceOfficer.HEIGHT + PAD * 2f;
+    private static final float CAR_CELL_W = PoliceCar.CAR_WIDTH + PAD * 2f;
+    private static final float CAR_CELL_H = PoliceCar.CAR_HEIGHT + PAD * 2f;
+    private static final float WHITE_CELL = 4f;
+    private static final float WHITE_BITS = Color.WHITE.toFloatBits();
+
+    // Sheet layout: a row of right-facing Venoms, a row of left-facing ones, then officer, cars, white
+    private static final float SHEET_W = Math.max(VENOM_CELL_W * (WALK_FRAMES + 1),
+        OFFICER_CELL_W + CAR_CELL_W * 2f + WHITE_CELL);
+    private static final float SHEET_H = VENOM_CELL_H * 2f + Math.max(OFFICER_CELL_H, CAR_CELL_H);
+
+    private FrameBuffer frameBuffer;
+    private int scale = 0; // pixels per world unit of the current bake, 0 = not baked
+    private boolean unsupported = false;
+
+    private final TextureRegion[][] venom = new TextureRegion[2][WALK_FRAMES + 1]; // [right, left][frame]
+    private TextureRegion officer;
+    private final TextureRegion[] car = new TextureRegion[2]; // [blink, other blink]
+    private TextureRegion white;
+
+    /**
+     * Bakes the sheet if it isn't baked at this scale yet.
+     *
+     * @param pixelsPerUnit how many back buffer pixels one world unit covers right now
+     * @return false if the atlas can't be used (no FrameBuffer support): draw procedurally instead
+     */
+    public boolean ensureBaked(float pixelsPerUnit) {
+        if (unsupported) return false;
+
+        int wanted = Math.max(1, MathUtils.ceil(pixelsPerUnit - 0.01f));
+        if (wanted == scale) return true;
+
+        dispose();
+        try {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888,
+                MathUtils.ceil(SHEET_W * wanted), MathUtils.ceil(SHEET_H * wanted), false);
+        } catch (RuntimeException e) {
+            Gdx.app.error("CharacterAtlas", "FrameBuffer not available, characters stay procedural", e);
+            unsupported = true;
+            return false;
+        }
+        scale = wanted;
+        bake();
+        return true;
+    }
+
+    private void bake() {
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+
+        ShapeRenderer shapes = new ShapeRenderer();
+        shapes.setProjectionMatrix(new Matrix4().setToOrtho2D(0f, 0f, SHEET_W, SHEET_H)); // world units -> sheet
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f); // transparent black: opaque figures on it = premultiplied alpha
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+
+        float amplitude = VenomPlayer.walkSwingAmplitude();
+        for (int facing = 0; facing < 2; facing++) {
+            float cy = VENOM_CELL_H * facing;
+            for (int frame = 0; frame <= WALK_FRAMES; frame++) {
+                float cx = VENOM_CELL_W * frame;
+                float swing = frame == 0 ? 0f : MathUtils.sin(MathUtils.PI2 * (frame - 1) / WALK_FRAMES) * amplitude;
+                VenomPlayer.drawFigure(shapes, cx + PAD, cy + PAD, facing == 0, swing);
+                venom[facing][frame] = region(texture, cx, cy, VENOM_CELL_W, VENOM_CELL_H);
+            }
+        }
+
+        float rowY = VENOM_CELL_H * 2f;
+        PoliceOfficer.drawFigure(shapes, PAD, rowY + PAD);
+        officer = region(texture, 0f, rowY, OFFICER_CELL_W, OFFICER_CELL_H);
+
+        for (int blink = 0; blink < 2; blink++) {
+            float cx = OFFICER_CELL_W + CAR_CELL_W * blink;
+            PoliceCar.drawFigure(shapes, cx + PAD, rowY + PAD, blink == 0);
+            car[blink] = region(texture, cx, rowY, CAR_CELL_W, CAR_CELL_H);
+        }
+
+        // Solid white square; sample its middle texel so filtering never reaches the edge
+        float wx = OFFICER_CELL_W + CAR_CELL_W * 2f;
+        shapes.setColor(Color.WHITE);
+        shapes.rect(wx, rowY, WHITE_CELL, WHITE_CELL);
+        white = new TextureRegion(texture, MathUtils.round((wx + WHITE_CELL / 2f) * scale), MathUtils.round((rowY + WHITE_CELL / 2f) * scale), 1, 1);
+
+        shapes.end();
+        frameBuffer.end();
+        shapes.dispose();
+    }
+
+    /** Region for a cell given in world units; flipped because FBO textures are stored bottom-up */
+    private TextureRegion region(Texture texture, float x, float y, float w, float h) {
+        TextureRegion region = new TextureRegion(texture,
+            MathUtils.round(x * scale), MathUtils.round(y * scale), MathUtils.round(w * scale), MathUtils.round(h * scale));
+        region.flip(false, true);
+        return region;
+    }
+
+    /** @param frame 0 = standing, 1..{@link #WALK_FRAMES} = walk cycle phases */
+    public void drawVenom(DrawList list, float x, float y, boolean facingRight, int frame) {
+        list.sprite(DrawList.LAYER_CHARACTERS, venom[facingRight ? 0 : 1][frame],
+            x - PAD, y - PAD, VENOM_CELL_W, VENOM_CELL_H, WHITE_BITS, true);
+    }
+
+    public void drawOfficer(DrawList list, float x, float y) {
+        list.sprite(DrawList.LAYER_CHARACTERS, officer, x - PAD, y - PAD, OFFICER_CELL_W, OFFICER_CELL_H, WHITE_BITS, true);
+    }
+
+    public void drawCar(DrawList list, float x, float y, boolean blinkPhase) {
+        list.sprite(DrawList.LAYER_CHARACTERS, car[blinkPhase ? 0 : 1], x - PAD, y - PAD, CAR_CELL_W, CAR_CELL_H, WHITE_BITS, true);
+    }
+
+    /** Solid opaque rectangle (e.g. Venom's tongue) from the sheet's white texel */
+    public void drawRect(DrawList list, Rectangle r, Color color) {
+        list.sprite(DrawList.LAYER_CHARACTERS, white, r.x, r.y, r.width, r.height, color.toFloatBits(), true);
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        scale = 0;
+    }
+}
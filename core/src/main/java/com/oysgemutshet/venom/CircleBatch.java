@@ -0,0 +1,251 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.Arrays;
+
+/**
+ * Draws filled circles (bullets, blobs) as one textureless quad each; the fragment shader
+ * cuts the circle out of the quad analytically, with a one pixel anti-aliased edge.
+ * ShapeRenderer instead builds a triangle fan of up to ~30 triangles per circle on the CPU.
+ * <p>
+ * Everything between {@link #begin(Matrix4)} and {@link #end()} is uploaded and drawn with a
+ * single draw call: the data array grows (doubling) instead of flushing, so even tens of
+ * thousands of circles stay one draw call. Two paths:
+ * <ul>
+ *     <li>GL 3.x ({@code Gdx.gl30} set): one shared quad drawn instanced, 4 floats per circle.</li>
+ *     <li>GL 2.0 / GLES 2: six unindexed vertices per circle, which is what lets a draw go
+ *     past the 16-bit index limit.</li>
+ * </ul>
+ */
+public class CircleBatch implements Disposable {
+
+    // GL 2 path: x, y, packed color, offset from centre x, y, radius per vertex
+    private static final int VERTEX_SIZE = 6;
+    private static final int VERTICES_PER_CIRCLE = 6; // two triangles
+
+    // GL 3 path: centre x, y, radius, packed color per instance
+    private static final int INSTANCE_SIZE = 4;
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "attribute vec3 a_circle;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec3 v_circle;\n" +
+        "void main() {\n" +
+        "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "    v_color.a = v_color.a * (255.0 / 254.0);\n" + // undo the alpha packing of Color.toFloatBits
+        "    v_circle = a_circle;\n" +
+        "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "}\n";
+
+    // Same outputs, but the quad corner comes from the shared mesh and the circle from the instance
+    private static final String INSTANCED_VERTEX_SHADER =
+        "attribute vec2 a_corner;\n" +
+        "attribute vec3 a_instance;\n" +
+        "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "uniform float u_pad;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec3 v_circle;\n" +
+        "void main() {\n" +
+        "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "    v_color.a = v_color.a * (255.0 / 254.0);\n" +
+        "    vec2 offset = a_corner * (a_instance.z + u_pad);\n" +
+        "    v_circle = vec3(offset, a_instance.z);\n" +
+        "    gl_Position = u_projTrans * vec4(a_instance.xy + offset, 0.0, 1.0);\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "uniform float u_pixelsPerUnit;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec3 v_circle;\n" +
+        "void main() {\n" +
+        "    float edge = (v_circle.z - length(v_circle.xy)) * u_pixelsPerUnit;\n" + // pixels inside the rim
+        "    float coverage = clamp(edge + 0.5, 0.0, 1.0);\n" +
+        "    gl_FragColor = vec4(v_color.rgb, v_color.a * coverage);\n" +
+        "}\n";
+
+    private final boolean instanced;
+    private final ShaderProgram shader;
+    private Mesh mesh;
+    private float[] data;
+    private int idx = 0;
+    private int instanceCapacity; // instanced path: circles the mesh's instance buffer holds
+    private boolean drawing = false;
+
+    private final Matrix4 projection = new Matrix4();
+    private float pad; // quad margin around the radius for the soft edge, world units
+
+    /** Draw calls issued by the last {@link #end()} (0 or 1) */
+    public int renderCalls = 0;
+
+    /**
+     * @param initialCircles circles that fit before the data array has to grow
+     */
+    public CircleBatch(int initialCircles) {
+        this(initialCircles, Gdx.gl30 != null);
+    }
+
+    /**
+     * @param instanced use the GL 3 instanced path; needs {@code Gdx.gl30}
+     */
+    public CircleBatch(int initialCircles, boolean instanced) {
+        if (instanced && Gdx.gl30 == null) {
+            throw new GdxRuntimeException("Instanced circles need GL 3.0");
+        }
+        this.instanced = instanced;
+        shader = new ShaderProgram(instanced ? INSTANCED_VERTEX_SHADER : VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Couldn't compile circle shader: " + shader.getLog());
+        }
+
+        int circles = Math.max(64, initialCircles);
+        if (instanced) {
+            data = new float[circles * INSTANCE_SIZE];
+            mesh = new Mesh(true, 4, 6,
+                new VertexAttribute(VertexAttributes.Usage.Position, 2, "a_corner"));
+            mesh.setVertices(new float[] {-1f, -1f, 1f, -1f, 1f, 1f, -1f, 1f});
+            mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+            setInstanceCapacity(circles);
+        } else {
+            data = new float[circles * VERTICES_PER_CIRCLE * VERTEX_SIZE];
+            mesh = newMesh(circles * VERTICES_PER_CIRCLE);
+        }
+    }
+
+    public boolean isInstanced() {
+        return instanced;
+    }
+
+    /**
+     * @param projection world to clip space, usually the camera's combined matrix
+     */
+    public void begin(Matrix4 projection) {
+        if (drawing) throw new IllegalStateException("CircleBatch.end must be called before begin.");
+        this.projection.set(projection);
+        pad = 1f / pixelsPerUnit(); // one pixel of room for the anti-aliased rim
+        drawing = true;
+        idx = 0;
+        renderCalls = 0;
+    }
+
+    /**
+     * @param color packed with {@link Color#toFloatBits()}
+     */
+    public void circle(float x, float y, float radius, float color) {
+        if (idx == data.length) {
+            data = Arrays.copyOf(data, data.length * 2); // grow, never flush mid-batch
+        }
+        float[] v = data;
+        int i = idx;
+        if (instanced) {
+            v[i] = x;
+            v[i + 1] = y;
+            v[i + 2] = radius;
+            v[i + 3] = color;
+            idx = i + INSTANCE_SIZE;
+            return;
+        }
+
+        float r = radius + pad;
+        float x0 = x - r, y0 = y - r, x1 = x + r, y1 = y + r;
+        i = put(v, i, x0, y0, color, -r, -r, radius);
+        i = put(v, i, x1, y0, color, r, -r, radius);
+        i = put(v, i, x1, y1, color, r, r, radius);
+        i = put(v, i, x1, y1, color, r, r, radius);
+        i = put(v, i, x0, y1, color, -r, r, radius);
+        i = put(v, i, x0, y0, color, -r, -r, radius);
+        idx = i;
+    }
+
+    public void circle(float x, float y, float radius, Color color) {
+        circle(x, y, radius, color.toFloatBits());
+    }
+
+    public void end() {
+        if (!drawing) throw new IllegalStateException("CircleBatch.begin must be called before end.");
+        drawing = false;
+        if (idx == 0) return;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformf("u_pixelsPerUnit", 1f / pad);
+
+        if (instanced) {
+            int count = idx / INSTANCE_SIZE;
+            if (instanceCapacity < count) {
+                setInstanceCapacity(data.length / INSTANCE_SIZE);
+            }
+            mesh.setInstanceData(data, 0, idx);
+            shader.setUniformf("u_pad", pad);
+            mesh.render(shader, GL20.GL_TRIANGLES, 0, 6);
+        } else {
+            int vertexCount = idx / VERTEX_SIZE;
+            if (mesh.getMaxVertices() < vertexCount) {
+                mesh.dispose();
+                mesh = newMesh(data.length / VERTEX_SIZE);
+            }
+            mesh.setVertices(data, 0, idx);
+            mesh.render(shader, GL20.GL_TRIANGLES, 0, vertexCount);
+        }
+        renderCalls = 1;
+    }
+
+    /** Circles queued since {@link #begin(Matrix4)} */
+    public int size() {
+        return instanced ? idx / INSTANCE_SIZE : idx / (VERTEX_SIZE * VERTICES_PER_CIRCLE);
+    }
+
+    /** Back buffer pixels per world unit along x for the current projection */
+    private float pixelsPerUnit() {
+        return Math.max(1e-3f, Math.abs(projection.val[Matrix4.M00]) * Gdx.graphics.getBackBufferWidth() / 2f);
+    }
+
+    private void setInstanceCapacity(int circles) {
+        if (mesh.isInstanced()) mesh.disableInstancedRendering();
+        mesh.enableInstancedRendering(false, circles,
+            new VertexAttribute(VertexAttributes.Usage.Generic, 3, "a_instance"),
+            VertexAttribute.ColorPacked());
+        instanceCapacity = circles;
+    }
+
+    private static int put(float[] v, int i, float x, float y, float color, float ox, float oy, float radius) {
+        v[i] = x;
+        v[i + 1] = y;
+        v[i + 2] = color;
+        v[i + 3] = ox;
+        v[i + 4] = oy;
+        v[i + 5] = radius;
+        return i + VERTEX_SIZE;
+    }
+
+    private static Mesh newMesh(int maxVertices) {
+        return new Mesh(false, maxVertices, 0,
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            VertexAttribute.ColorPacked(),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 3, "a_circle"));
+    }
+
+    @Override
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,41 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * {@link Pool} that counts how many obtains were served from the free list (hits)
+ * and how many had to allocate a new object (misses). Once a level reaches steady
+ * state the miss count should stop growing.
+ */
+public abstract class CountingPool<T> extends Pool<T> {
+
+    private long hits = 0;
+    private long misses = 0;
+
+    public CountingPool(int initialCapacity, int max) {
+        super(initialCapacity, max);
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() > 0) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return super.obtain();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+}
@@ -0,0 +1,363 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/**
+ * Frame command buffer: instead of calling SpriteBatch / ShapeRenderer directly, world drawing
+ * submits commands (sprites, rects, circles, whole bullet fields, text) tagged with a layer.
+ * {@link #flush} sorts them by layer, then renderer, blend mode and texture, and draws them
+ * with as few begin()/end() pairs and state switches as possible.
+ * <p>
+ * Layers are the only ordering guarantee: inside one layer, commands for the same renderer,
+ * blend mode and texture keep their submission order, but e.g. a rect and a sprite in the
+ * same layer may be drawn either way round.
+ * <p>
+ * Commands live in reused parallel arrays (like BulletField), so a frame allocates nothing once
+ * the arrays have grown. After {@link #sort()} the stream can be inspected without any GL,
+ * which is what {@link #countPasses(boolean)} does.
+ */
+public class DrawList {
+
+    // Layers used by the levels, bottom to top
+    public static final int LAYER_CHARACTERS = 10;
+    public static final int LAYER_PROJECTILES = 20;
+    public static final int LAYER_HUD = 30;
+    public static final int LAYER_TEXT = 40;
+
+    public enum Kind { SPRITE, RECT, CIRCLE, BULLETS, TEXT }
+
+    // Renderers, in the order they run inside a layer
+    private static final int RENDERER_BATCH = 0;
+    private static final int RENDERER_CIRCLES = 1;
+    private static final int RENDERER_SHAPES = 2;
+
+    private static final int BLEND_ALPHA = 0;
+    private static final int BLEND_PREMULTIPLIED = 1;
+
+    // Sort key: layer (15 bits) | renderer (4) | blend (1) | texture (12) | submission index (32)
+    private static final int LAYER_SHIFT = 49;
+    private static final int RENDERER_SHIFT = 45;
+    private static final int BLEND_SHIFT = 44;
+    private static final int TEXTURE_SHIFT = 32;
+    private static final int MAX_TEXTURES = 1 << 12;
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private long[] keys;
+    private int[] kind;
+    private float[] x, y, w, h, color;
+    private Object[] ref;         // TextureRegion, CachedText or BulletField
+    private int size = 0;
+    private boolean sorted = false;
+
+    // Textures seen this frame; the index is the texture part of the key
+    private final Array<Texture> textures = new Array<>(true, 16, Texture.class);
+
+    private final Color tmpColor = new Color();
+
+    // Stats of the last flush
+    private int lastCommands;
+    private int lastPasses;
+    private int lastStateChanges;
+
+    public DrawList(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    /** Textured quad; premultiplied for regions of textures that store premultiplied alpha (CharacterAtlas) */
+    public void sprite(int layer, TextureRegion region, float px, float py, float width, float height,
+                       float packedColor, boolean premultiplied) {
+        int i = add(Kind.SPRITE, key(layer, RENDERER_BATCH, premultiplied ? BLEND_PREMULTIPLIED : BLEND_ALPHA,
+            textureId(region.getTexture())));
+        set(i, px, py, width, height, packedColor);
+        ref[i] = region;
+    }
+
+    /** Filled ShapeRenderer rectangle */
+    public void rect(int layer, float px, float py, float width, float height, float packedColor) {
+        int i = add(Kind.RECT, key(layer, RENDERER_SHAPES, BLEND_ALPHA, 0));
+        set(i, px, py, width, height, packedColor);
+    }
+
+    /** Filled circle, through the CircleBatch when there is one */
+    public void circle(int layer, float cx, float cy, float radius, float packedColor) {
+        int i = add(Kind.CIRCLE, key(layer, RENDERER_CIRCLES, BLEND_ALPHA, 0));
+        set(i, cx, cy, radius, 0f, packedColor);
+    }
+
+    /**
+     * Every bullet of a field as one command, so tens of thousands of bullets don't cost tens of
+     * thousands of sort entries. The field is read at flush time.
+     */
+    public void bullets(int layer, BulletField field, Color bulletColor, float alpha) {
+        int i = add(Kind.BULLETS, key(layer, RENDERER_CIRCLES, BLEND_ALPHA, 0));
+        set(i, alpha, 0f, 0f, 0f, bulletColor.toFloatBits());
+        ref[i] = field;
+    }
+
+    /** Already laid out text; position, color and content are read at flush time */
+    public void text(int layer, CachedText text) {
+        int i = add(Kind.TEXT, key(layer, RENDERER_BATCH, BLEND_ALPHA, textureId(text.getFont().getRegion().getTexture())));
+        set(i, 0f, 0f, 0f, 0f, 0f);
+        ref[i] = text;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Orders the commands for drawing; the accessors below then take positions in that order */
+    public void sort() {
+        if (!sorted) {
+            Arrays.sort(keys, 0, size);
+            sorted = true;
+        }
+    }
+
+    public Kind getKind(int position) {
+        return KINDS[kind[indexAt(position)]];
+    }
+
+    public int getLayer(int position) {
+        return (int) (keys[position] >>> LAYER_SHIFT);
+    }
+
+    /** Texture of a sprite or text command, null for the others */
+    public Texture getTexture(int position) {
+        Object o = ref[indexAt(position)];
+        if (o instanceof TextureRegion) return ((TextureRegion) o).getTexture();
+        if (o instanceof CachedText) return ((CachedText) o).getFont().getRegion().getTexture();
+        return null;
+    }
+
+    /**
+     * How many renderer begin()/end() pairs {@link #flush} would need for the current commands.
+     *
+     * @param circleBatch whether a CircleBatch will be passed to flush
+     */
+    public int countPasses(boolean circleBatch) {
+        sort();
+        int passes = 0;
+        int current = -1;
+        for (int p = 0; p < size; p++) {
+            int renderer = rendererOf(p, circleBatch);
+            if (renderer != current) {
+                passes++;
+                current = renderer;
+            }
+        }
+        return passes;
+    }
+
+    /**
+     * Draws everything submitted since the last flush, then empties the list.
+     *
+     * @param circles    may be null: circles then go through the ShapeRenderer
+     * @param projection world to clip space for all three renderers
+     */
+    public void flush(SpriteBatch batch, ShapeRenderer shapes, CircleBatch circles, Matrix4 projection) {
+        sort();
+        lastCommands = size;
+        lastPasses = 0;
+        lastStateChanges = 0;
+        if (size == 0) return;
+
+        batch.setProjectionMatrix(projection);
+        shapes.setProjectionMatrix(projection);
+
+        int current = -1;
+        int blend = -1;
+        for (int p = 0; p < size; p++) {
+            int renderer = rendererOf(p, circles != null);
+            if (renderer != current) {
+                end(current, batch, shapes, circles);
+                begin(renderer, batch, shapes, circles, projection);
+                current = renderer;
+                blend = -1;
+                lastPasses++;
+            }
+
+            int i = indexAt(p);
+            switch (KINDS[kind[i]]) {
+                case SPRITE: {
+                    int b = (int) (keys[p] >>> BLEND_SHIFT) & 1;
+                    if (b != blend) {
+                        if (b == BLEND_PREMULTIPLIED) {
+                            batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                        } else {
+                            batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                        }
+                        if (blend != -1) lastStateChanges++;
+                        blend = b;
+                    }
+                    batch.setPackedColor(color[i]);
+                    batch.draw((TextureRegion) ref[i], x[i], y[i], w[i], h[i]);
+                    break;
+                }
+                case TEXT: {
+                    if (blend != BLEND_ALPHA) {
+                        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                        if (blend != -1) lastStateChanges++;
+                        blend = BLEND_ALPHA;
+                    }
+                    ((CachedText) ref[i]).draw(batch);
+                    break;
+                }
+                case RECT:
+                    Color.abgr8888ToColor(tmpColor, color[i]);
+                    shapes.setColor(tmpColor);
+                    shapes.rect(x[i], y[i], w[i], h[i]);
+                    break;
+                case CIRCLE:
+                    if (circles != null) {
+                        circles.circle(x[i], y[i], w[i], color[i]);
+                    } else {
+                        Color.abgr8888ToColor(tmpColor, color[i]);
+                        shapes.setColor(tmpColor);
+                        shapes.circle(x[i], y[i], w[i]);
+                    }
+                    break;
+                case BULLETS:
+                    Color.abgr8888ToColor(tmpColor, color[i]);
+                    if (circles != null) {
+                        ((BulletField) ref[i]).render(circles, tmpColor, x[i]);
+                    } else {
+                        ((BulletField) ref[i]).render(shapes, tmpColor, x[i]);
+                    }
+                    break;
+            }
+        }
+        end(current, batch, shapes, circles);
+        clear();
+    }
+
+    /** Drops all commands without drawing them */
+    public void clear() {
+        Arrays.fill(ref, 0, size, null);
+        size = 0;
+        sorted = false;
+        textures.clear();
+    }
+
+    public int getLastCommands() {
+        return lastCommands;
+    }
+
+    /** Renderer begin()/end() pairs in the last flush */
+    public int getLastPasses() {
+        return lastPasses;
+    }
+
+    /** Blend function switches inside SpriteBatch passes in the last flush */
+    public int getLastStateChanges() {
+        return lastStateChanges;
+    }
+
+    private void begin(int renderer, SpriteBatch batch, ShapeRenderer shapes, CircleBatch circles, Matrix4 projection) {
+        switch (renderer) {
+            case RENDERER_BATCH:
+                batch.begin();
+                break;
+            case RENDERER_CIRCLES:
+                circles.begin(projection);
+                break;
+            default:
+                // Fading circles / translucent rects; the sprite pass before may have left premultiplied blending on
+                Gdx.gl.glEnable(GL20.GL_BLEND);
+                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                shapes.begin(ShapeRenderer.ShapeType.Filled);
+                break;
+        }
+    }
+
+    private void end(int renderer, SpriteBatch batch, ShapeRenderer shapes, CircleBatch circles) {
+        switch (renderer) {
+            case RENDERER_BATCH:
+                batch.end();
+                batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                batch.setColor(Color.WHITE);
+                break;
+            case RENDERER_CIRCLES:
+                circles.end();
+                break;
+            case RENDERER_SHAPES:
+                shapes.end();
+                break;
+            default:
+                break; // nothing open yet
+        }
+    }
+
+    /** Renderer that draws the command at a sorted position; circles fall back to shapes */
+    private int rendererOf(int position, boolean circleBatch) {
+        int renderer = (int) (keys[position] >>> RENDERER_SHIFT) & 0xF;
+        return renderer == RENDERER_CIRCLES && !circleBatch ? RENDERER_SHAPES : renderer;
+    }
+
+    private int indexAt(int position) {
+        return (int) keys[position]; // low 32 bits
+    }
+
+    private long key(int layer, int renderer, int blend, int texture) {
+        return ((long) layer << LAYER_SHIFT) | ((long) renderer << RENDERER_SHIFT)
+            | ((long) blend << BLEND_SHIFT) | ((long) texture << TEXTURE_SHIFT);
+    }
+
+    private int textureId(Texture texture) {
+        int id = textures.indexOf(texture, true);
+        if (id < 0) {
+            id = textures.size;
+            textures.add(texture);
+        }
+        return Math.min(id, MAX_TEXTURES - 1); // only affects grouping, never correctness
+    }
+
+    private int add(Kind k, long key) {
+        if (size == keys.length) grow(size * 2);
+        int i = size++;
+        keys[i] = key | i;
+        kind[i] = k.ordinal();
+        sorted = false;
+        return i;
+    }
+
+    private void set(int i, float px, float py, float pw, float ph, float packedColor) {
+        x[i] = px;
+        y[i] = py;
+        w[i] = pw;
+        h[i] = ph;
+        color[i] = packedColor;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        kind = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        w = new float[capacity];
+        h = new float[capacity];
+        color = new float[capacity];
+        ref = new Object[capacity];
+    }
+
+    private void grow(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        w = Arrays.copyOf(w, capacity);
+        h = Arrays.copyOf(h, capacity);
+        color = Arrays.copyOf(color, capacity);
+        ref = Arrays.copyOf(ref, capacity);
+    }
+}
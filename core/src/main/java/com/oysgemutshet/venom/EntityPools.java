@@ -0,0 +1,76 @@
+package com.oysgemutshet.venom;
+
+/**
+ * One pool per short-lived entity type, so spawning and shooting reuse objects
+ * instead of producing garbage every few frames.
+ */
+public class EntityPools {
+
+    // Max number of idle objects each pool keeps around
+    public static final int DEFAULT_MAX_BLOBS    = 64;
+    public static final int DEFAULT_MAX_OFFICERS = 64;
+    public static final int DEFAULT_MAX_CARS     = 8;
+
+    public final CountingPool<BlobProjectile> blobs;
+    public final CountingPool<PoliceOfficer> officers;
+    public final CountingPool<PoliceCar> cars;
+
+    public EntityPools() {
+        this(DEFAULT_MAX_BLOBS, DEFAULT_MAX_OFFICERS, DEFAULT_MAX_CARS);
+    }
+
+    public EntityPools(int maxBlobs, int maxOfficers, int maxCars) {
+        blobs = new CountingPool<BlobProjectile>(16, maxBlobs) {
+            @Override
+            protected BlobProjectile newObject() {
+                return new BlobProjectile();
+            }
+        };
+        officers = new CountingPool<PoliceOfficer>(16, maxOfficers) {
+            @Override
+            protected PoliceOfficer newObject() {
+                return new PoliceOfficer();
+            }
+        };
+        cars = new CountingPool<PoliceCar>(2, maxCars) {
+            @Override
+            protected PoliceCar newObject() {
+                return new PoliceCar();
+            }
+        };
+    }
+
+    public BlobProjectile obtainBlob(float x, float y, int dir) {
+        BlobProjectile blob = blobs.obtain();
+        blob.init(x, y, dir);
+        return blob;
+    }
+
+    public PoliceOfficer obtainOfficer(float x, float y, int dir, int burstSize) {
+        PoliceOfficer officer = officers.obtain();
+        officer.init(x, y, dir, burstSize);
+        return officer;
+    }
+
+    public PoliceCar obtainCar(float x, float groundTopY, int dir) {
+        PoliceCar car = cars.obtain();
+        car.init(x, groundTopY, dir);
+        return car;
+    }
+
+    /** Obtains served from a free list, across all pools */
+    public long getHits() {
+        return blobs.getHits() + officers.getHits() + cars.getHits();
+    }
+
+    /** Obtains that had to allocate, across all pools */
+    public long getMisses() {
+        return blobs.getMisses() + officers.getMisses() + cars.getMisses();
+    }
+
+    public void resetCounters() {
+        blobs.resetCounters();
+        officers.resetCounters();
+        cars.resetCounters();
+    }
+}
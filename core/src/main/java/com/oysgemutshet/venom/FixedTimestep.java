@@ -0,0 +1,89 @@
+package com.oysgemutshet.venom;
+
+/**
+ * Turns variable frame deltas into a whole number of fixed-length simulation ticks.
+ * Leftover time stays in the accumulator and is exposed as an interpolation alpha
+ * so rendering can blend between the previous and current tick.
+ */
+public class FixedTimestep {
+
+    public static final float DEFAULT_TICK_RATE = 60f;      // ticks per second
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5; // catch-up cap (avoids the spiral of death)
+
+    private float stepSeconds;
+    private int maxStepsPerFrame;
+    private float accumulator = 0f;
+    private long droppedSteps = 0;
+
+    public FixedTimestep() {
+        this(DEFAULT_TICK_RATE, DEFAULT_MAX_STEPS_PER_FRAME);
+    }
+
+    public FixedTimestep(float tickRate, int maxStepsPerFrame) {
+        setTickRate(tickRate);
+        setMaxStepsPerFrame(maxStepsPerFrame);
+    }
+
+    /**
+     * Adds a frame's worth of real time and returns how many ticks should run now.
+     * If more than {@code maxStepsPerFrame} ticks are owed, the surplus is thrown away
+     * (the game slows down instead of freezing).
+     */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0f) {
+            accumulator += frameDelta;
+        }
+
+        int steps = (int) (accumulator / stepSeconds);
+        if (steps > maxStepsPerFrame) {
+            droppedSteps += steps - maxStepsPerFrame;
+            steps = maxStepsPerFrame;
+            accumulator = stepSeconds * steps + (accumulator % stepSeconds);
+        }
+
+        accumulator -= steps * stepSeconds;
+        if (accumulator < 0f) accumulator = 0f; // float rounding
+        return steps;
+    }
+
+    /** How far (0..1) real time has progressed past the last tick. */
+    public float getAlpha() {
+        float alpha = accumulator / stepSeconds;
+        return alpha > 1f ? 1f : alpha;
+    }
+
+    /** Seconds of real time not yet simulated. */
+    public float getAccumulator() {
+        return accumulator;
+    }
+
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public float getTickRate() {
+        return 1f / stepSeconds;
+    }
+
+    public void setTickRate(float tickRate) {
+        if (tickRate <= 0f) throw new IllegalArgumentException("tickRate must be > 0: " + tickRate);
+        this.stepSeconds = 1f / tickRate;
+    }
+
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    /** Total ticks skipped because a frame owed more than the catch-up cap. */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+    }
+}
@@ -0,0 +1,325 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeType;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Owns the game's fonts. Each TTF is rasterized once, at {@link #GLYPH_SIZE}, turned into a
+ * signed distance field and shared by every screen that {@link #acquire}s it; the last
+ * {@link #release} disposes it. Normally the rasterizing already happened at build time
+ * ({@code gradlew lwjgl3:bakeAssets}) and the .fnt next to the TTF comes from the
+ * {@link AssetService} (usually preloaded already), so FreeType only runs for faces that haven't
+ * been baked. Text is sized with {@link #setSize} instead of scaling a
+ * bitmap, so it stays sharp from HUD hints up to titles.
+ * <p>
+ * Distance field glyphs must be drawn with {@link #getShader()}. That shader draws ordinary
+ * textures unchanged, so the game simply installs it on its shared SpriteBatch.
+ */
+public class FontService implements Disposable {
+
+    public static final String RUSSO_ONE = "fonts/RussoOne-Regular.ttf";
+
+    /** Stands in for a face that isn't baked when there is no FreeType to generate it; always baked */
+    public static final String FALLBACK = RUSSO_ONE;
+
+    /** Pixel size glyphs are rasterized at; also the size at scale 1 */
+    public static final int GLYPH_SIZE = 48;
+
+    // Raster pixels the distance field reaches outside/inside the outline
+    private static final int SPREAD = 6;
+    private static final int PAGE_SIZE = 1024;
+
+    private static class Entry {
+        final BitmapFont font;
+        final AssetDescriptor<BitmapFont> baked; // null when FreeType made it here
+        int refs;
+
+        Entry(BitmapFont font, AssetDescriptor<BitmapFont> baked) {
+            this.font = font;
+            this.baked = baked;
+        }
+    }
+
+    private final AssetService assets;
+
+    private final ObjectMap<String, Entry> fonts = new ObjectMap<>();
+    private final ShaderProgram shader;
+
+    /** Runtime FreeType runs so far; stays 0 while every face has a baked .fnt */
+    public int generated = 0;
+
+    // Whether the FreeType natives load; null until a face without a baked .fnt asks
+    private static Boolean freeTypeAvailable;
+
+    public FontService(AssetService assets) {
+        this.assets = assets;
+        shader = DistanceFieldFont.createDistanceFieldShader();
+    }
+
+    public ShaderProgram getShader() {
+        return shader;
+    }
+
+    /**
+     * The face at {@code path}, generated on first use. Pair with {@link #release}.
+     * A face that isn't baked, in a build without the FreeType natives ({@code -PfreetypeNatives=false}),
+     * comes back as the {@link #FALLBACK} face.
+     */
+    public BitmapFont acquire(String path) {
+        Entry entry = fonts.get(path);
+        if (entry == null) {
+            if (!AssetService.exists(bakedFont(path)) && !isFreeTypeAvailable()) {
+                return acquireFallback(path);
+            }
+            entry = load(path);
+            fonts.put(path, entry);
+        }
+        entry.refs++;
+        return entry.font;
+    }
+
+    public void release(BitmapFont font) {
+        for (ObjectMap.Entry<String, Entry> e : fonts) {
+            if (e.value.font != font) continue;
+            if (--e.value.refs == 0) {
+                fonts.remove(e.key);
+                free(e.value);
+            }
+            return;
+        }
+        throw new IllegalArgumentException("Font was not acquired from this service");
+    }
+
+    private BitmapFont acquireFallback(String path) {
+        if (path.equals(FALLBACK) || !AssetService.exists(bakedFont(FALLBACK))) {
+            throw new GdxRuntimeException("Font " + path + " has no baked " + bakedPath(path)
+                + " (run gradlew lwjgl3:bakeAssets) and this build has no FreeType natives to generate it");
+        }
+        Gdx.app.error("FontService", path + " is not baked and FreeType is not available, using " + FALLBACK);
+        return acquire(FALLBACK);
+    }
+
+    /** Whether FreeType can run here; the desktop jar can be built without its natives */
+    public static boolean isFreeTypeAvailable() {
+        if (freeTypeAvailable == null) {
+            try {
+                FreeType.initFreeType().dispose();
+                freeTypeAvailable = true;
+            } catch (RuntimeException | LinkageError e) { // natives missing from the jar, or not loadable
+                freeTypeAvailable = false;
+            }
+        }
+        return freeTypeAvailable;
+    }
+
+    /** Scale that draws a font from this service at the given pixel size */
+    public static float scaleFor(float pixelSize) {
+        return pixelSize / GLYPH_SIZE;
+    }
+
+    public static void setSize(BitmapFont font, float pixelSize) {
+        font.getData().setScale(scaleFor(pixelSize));
+    }
+
+    /** Where the build's {@code bakeAssets} task writes the baked version of a TTF */
+    public static String bakedPath(String ttfPath) {
+        return ttfPath.substring(0, ttfPath.lastIndexOf('.')) + ".fnt";
+    }
+
+    /** The baked version of a TTF as an asset, e.g. for {@link AssetService#preload} */
+    public static AssetDescriptor<BitmapFont> bakedFont(String ttfPath) {
+        return new AssetDescriptor<>(bakedPath(ttfPath), BitmapFont.class);
+    }
+
+    private Entry load(String path) {
+        long start = System.nanoTime();
+        DistanceFieldFont font;
+        AssetDescriptor<BitmapFont> baked = bakedFont(path);
+        if (AssetService.exists(baked)) {
+            font = (DistanceFieldFont) assets.acquire(baked);
+            // Baked without a padding entry (see AssetBaker); GlyphLayout still needs to know it
+            BitmapFont.BitmapFontData data = font.getData();
+            data.padTop = data.padLeft = data.padBottom = data.padRight = SPREAD;
+        } else {
+            baked = null;
+            // No baked font (e.g. a new face before bakeAssets ran): needs the FreeType natives
+            PixmapPacker packer = newPacker();
+            BitmapFont.BitmapFontData data = rasterize(Gdx.files.internal(path), packer);
+            Array<TextureRegion> regions = new Array<>();
+            packer.updateTextureRegions(regions, Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+            packer.dispose(); // the page textures keep their pixmaps
+            font = new DistanceFieldFont(data, regions, false);
+            font.setOwnsTexture(true);
+            generated++;
+        }
+        font.setDistanceFieldSmoothing(SPREAD);
+        Gdx.app.log("FontService", (baked != null ? baked.fileName : path + " (FreeType)") + ": "
+            + font.getRegions().size + " page(s) in " + (System.nanoTime() - start) / 1000000 + " ms");
+        return new Entry(font, baked);
+    }
+
+    private void free(Entry entry) {
+        if (entry.baked != null) {
+            assets.release(entry.baked);
+        } else {
+            entry.font.dispose();
+        }
+    }
+
+    /** Packer for {@link #rasterize}: RGBA pages, 2 px between glyphs */
+    public static PixmapPacker newPacker() {
+        return new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+    }
+
+    /**
+     * Rasterizes a TTF into distance field glyphs on the packer's pages. Touches no GL, so the
+     * asset baker runs it at build time as well.
+     */
+    public static BitmapFont.BitmapFontData rasterize(FileHandle ttf, PixmapPacker packer) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(ttf);
+        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        param.size = GLYPH_SIZE;
+        param.color = Color.WHITE;
+        // Room around each glyph for the field to fall off in
+        param.padTop = param.padLeft = param.padBottom = param.padRight = SPREAD;
+        param.packer = packer; // our packer: no textures get made until the pages are converted
+        FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(param);
+        generator.dispose();
+
+        for (BitmapFont.Glyph[] page : ((BitmapFont.BitmapFontData) data).glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph == null || glyph.width == 0 || glyph.height == 0) continue; // blank glyphs get no padding
+                Pixmap pixmap = packer.getPages().get(glyph.page).getPixmap();
+                toDistanceField(pixmap, glyph.srcX, glyph.srcY, glyph.width, glyph.height, SPREAD);
+                // FreeType grows the glyph bitmap by the padding but keeps the quad's top left
+                // where it was; move the quad so the outline lands where it did
+                glyph.xoffset -= SPREAD;
+                glyph.yoffset += SPREAD;
+            }
+        }
+        data.padTop = data.padLeft = data.padBottom = data.padRight = SPREAD; // for GlyphLayout widths
+        return data;
+    }
+
+    /**
+     * Replaces a glyph's coverage alpha with a signed distance to its outline: 0.5 on the edge,
+     * 1 at {@code spread} pixels inside, 0 at {@code spread} outside. RGB becomes white. The
+     * glyph's padding is what keeps the field from running into its neighbours.
+     */
+    static void toDistanceField(Pixmap pixmap, int left, int top, int width, int height, int spread) {
+        ByteBuffer pixels = pixmap.getPixels();
+        int stride = pixmap.getWidth();
+        float[] toInside = new float[width * height];  // squared distance to the nearest inside pixel
+        float[] toOutside = new float[width * height]; // ... and to the nearest outside one
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                boolean inside = (pixels.get(((top + y) * stride + left + x) * 4 + 3) & 0xff) >= 128;
+                toInside[i] = inside ? 0f : Float.POSITIVE_INFINITY;
+                toOutside[i] = inside ? Float.POSITIVE_INFINITY : 0f;
+            }
+        }
+        distanceTransform(toInside, width, height);
+        distanceTransform(toOutside, width, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                // Pixel centres: the edge lies half a pixel from the nearest pixel across it
+                float distance = toOutside[i] > 0f
+                    ? (float) Math.sqrt(toOutside[i]) - 0.5f
+                    : 0.5f - (float) Math.sqrt(toInside[i]);
+                float a = 0.5f + distance / (2f * spread);
+                int o = ((top + y) * stride + left + x) * 4;
+                pixels.put(o, (byte) 0xff);
+                pixels.put(o + 1, (byte) 0xff);
+                pixels.put(o + 2, (byte) 0xff);
+                pixels.put(o + 3, (byte) Math.round(Math.max(0f, Math.min(1f, a)) * 255f));
+            }
+        }
+    }
+
+    /** Exact squared Euclidean distance transform, in place (Felzenszwalb & Huttenlocher) */
+    private static void distanceTransform(float[] grid, int width, int height) {
+        int n = Math.max(width, height);
+        float[] f = new float[n];
+        float[] d = new float[n];
+        int[] v = new int[n];
+        float[] z = new float[n + 1];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) f[y] = grid[y * width + x];
+            transform1d(f, height, d, v, z);
+            for (int y = 0; y < height; y++) grid[y * width + x] = d[y];
+        }
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(grid, y * width, f, 0, width);
+            transform1d(f, width, d, v, z);
+            System.arraycopy(d, 0, grid, y * width, width);
+        }
+    }
+
+    private static void transform1d(float[] f, int n, float[] d, int[] v, float[] z) {
+        // Lower envelope of the parabolas rooted at the finite samples
+        int k = -1;
+        for (int q = 0; q < n; q++) {
+            if (f[q] == Float.POSITIVE_INFINITY) continue;
+            if (k < 0) {
+                k = 0;
+                v[0] = q;
+                z[0] = Float.NEGATIVE_INFINITY;
+                z[1] = Float.POSITIVE_INFINITY;
+                continue;
+            }
+            float s = intersection(f, v[k], q);
+            while (s <= z[k]) { // z[0] is -infinity, so this stops at k == 0
+                k--;
+                s = intersection(f, v[k], q);
+            }
+            k++;
+            v[k] = q;
+            z[k] = s;
+            z[k + 1] = Float.POSITIVE_INFINITY;
+        }
+        if (k < 0) {
+            for (int q = 0; q < n; q++) d[q] = Float.POSITIVE_INFINITY;
+            return;
+        }
+        k = 0;
+        for (int q = 0; q < n; q++) {
+            while (z[k + 1] < q) k++;
+            int p = v[k];
+            d[q] = (q - p) * (q - p) + f[p];
+        }
+    }
+
+    private static float intersection(float[] f, int p, int q) {
+        return ((f[q] + q * q) - (f[p] + p * p)) / (2f * (q - p));
+    }
+
+    @Override
+    public void dispose() {
+        for (Entry entry : fonts.values()) {
+            free(entry);
+        }
+        fonts.clear();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,331 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * Debug HUD drawn on top of everything (toggle with F3): rolling frame time graph,
+ * average time per render phase, SpriteBatch / GL call counts, live entity counts and
+ * an allocation estimate.
+ * <p>
+ * Code marks phases with {@link #begin(Phase)} / {@link #end(Phase)}; both are no-ops while
+ * the HUD is hidden and no {@link TelemetryRecorder} is attached. The text is rebuilt a few
+ * times a second into a reused StringBuilder, so a visible HUD doesn't allocate either.
+ */
+public class FrameProfiler {
+
+    public enum Phase {
+        UPDATE("update"),
+        COLLISION("  collision"), // part of update
+        BACKGROUND("background"),
+        WORLD_SHAPES("shapes"),
+        TEXT("text"),
+        DRAW_LIST("draw list"), // sorted flush of what the phases above submitted
+        FADE("fade"),
+        LOADING("loading"), // background asset loading (see AssetService)
+        HUD("hud");
+
+        final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final int HISTORY = 240;            // frames in the graph
+    private static final float TEXT_REFRESH = 0.25f;   // seconds between text rebuilds
+    private static final float GRAPH_MS_HEIGHT = 2f;   // pixels per millisecond
+    private static final int MAX_COUNTS = 12;
+
+    private final SpriteBatch batch;
+    private final GLProfiler glProfiler;
+    private final ShapeRenderer shapes = new ShapeRenderer();
+    private final BitmapFont font = new BitmapFont(); // built-in font, no FreeType needed
+    private final Matrix4 projection = new Matrix4();
+    private final StringBuilder text = new StringBuilder(512);
+    private final CachedText hudText = new CachedText(font); // laid out again only when the text changes
+
+    private boolean visible = false;
+    private TelemetryRecorder telemetry; // null unless telemetry was opted in
+
+    // Current frame
+    private final long[] phaseStart = new long[Phase.values().length];
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long frameStart;
+    private int batchCallsAtFrameStart;
+
+    // Averaged over the text refresh interval
+    private final long[] phaseSum = new long[Phase.values().length];
+    private long cpuSum;
+    private long cpuWorst;
+    private float deltaSum;
+    private int frames;
+    private long allocatedSum;
+    private long lastHeapUsed;
+
+    // Frame history for the graph (milliseconds)
+    private final float[] frameMs = new float[HISTORY];
+    private final float[] cpuMs = new float[HISTORY];
+    private int historyHead = 0;
+
+    // Stats of the last finished frame
+    private int batchCalls;
+    private int lastPassCalls;
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int vertices;
+
+    // Entity counts reported by the current screen this frame
+    private final String[] countLabels = new String[MAX_COUNTS];
+    private final int[] countValues = new int[MAX_COUNTS];
+    private int countSize = 0;
+
+    private float sinceRefresh = TEXT_REFRESH;
+
+    public FrameProfiler(SpriteBatch batch) {
+        this.batch = batch;
+        this.glProfiler = new GLProfiler(Gdx.graphics);
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /** True while timings and counts are being collected (HUD shown or telemetry on) */
+    public boolean isActive() {
+        return visible || telemetry != null;
+    }
+
+    /** Every finished frame is also handed to this recorder; null turns that off */
+    public void setTelemetry(TelemetryRecorder telemetry) {
+        this.telemetry = telemetry;
+        if (telemetry != null) lastHeapUsed = heapUsed();
+    }
+
+    public void toggle() {
+        visible = !visible;
+        if (visible) {
+            glProfiler.enable();
+            glProfiler.reset();
+            lastHeapUsed = heapUsed();
+            sinceRefresh = TEXT_REFRESH;
+            resetAverages(); // may have been collecting for telemetry meanwhile
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    /** Start of Game.render */
+    public void beginFrame() {
+        if (!isActive()) return;
+        frameStart = System.nanoTime();
+        batchCallsAtFrameStart = batch.totalRenderCalls;
+        countSize = 0;
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = 0L;
+        }
+    }
+
+    public void begin(Phase phase) {
+        if (!isActive()) return;
+        phaseStart[phase.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        if (!isActive()) return;
+        phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    /** For time measured elsewhere (e.g. inside the simulation) */
+    public void add(Phase phase, long nanos) {
+        if (!isActive()) return;
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /** Live entity count for this frame; use constant labels */
+    public void count(String label, int value) {
+        if (!isActive() || countSize == MAX_COUNTS) return;
+        countLabels[countSize] = label;
+        countValues[countSize] = value;
+        countSize++;
+    }
+
+    /** Value reported this frame under the label, or -1 */
+    public int getCount(String label) {
+        for (int i = 0; i < countSize; i++) {
+            if (countLabels[i].equals(label)) return countValues[i];
+        }
+        return -1;
+    }
+
+    /** End of the game's own drawing, before the HUD: captures this frame's stats */
+    public void endFrame(float delta) {
+        if (!isActive()) return;
+        long cpu = System.nanoTime() - frameStart;
+
+        if (telemetry != null) {
+            telemetry.recordFrame(delta * 1000f, cpu / 1_000_000f, phaseNanos[Phase.UPDATE.ordinal()] / 1_000_000f,
+                getCount("officers"), getCount("bullets"), getCount("cars"), getCount("blobs"),
+                Gdx.app.getJavaHeap(), Gdx.app.getNativeHeap());
+        }
+
+        batchCalls = batch.totalRenderCalls - batchCallsAtFrameStart;
+        lastPassCalls = batch.renderCalls;
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        shaderSwitches = glProfiler.getShaderSwitches();
+        vertices = (int) glProfiler.getVertexCount().total;
+
+        frameMs[historyHead] = delta * 1000f;
+        cpuMs[historyHead] = cpu / 1_000_000f;
+        historyHead = (historyHead + 1) % HISTORY;
+
+        for (int i = 0; i < phaseSum.length; i++) {
+            phaseSum[i] += phaseNanos[i];
+        }
+        cpuSum += cpu;
+        cpuWorst = Math.max(cpuWorst, cpu);
+        deltaSum += delta;
+        frames++;
+
+        // Heap growth between frames; a shrink means a GC ran, skip that frame
+        long heap = heapUsed();
+        if (heap > lastHeapUsed) allocatedSum += heap - lastHeapUsed;
+        lastHeapUsed = heap;
+    }
+
+    /** Draws the HUD in screen pixels. Call after {@link #endFrame(float)}. */
+    public void render() {
+        if (!visible) return;
+        long hudStart = System.nanoTime();
+
+        float w = Gdx.graphics.getWidth();
+        float h = Gdx.graphics.getHeight();
+        projection.setToOrtho2D(0f, 0f, w, h);
+
+        sinceRefresh += Gdx.graphics.getDeltaTime();
+        if (sinceRefresh >= TEXT_REFRESH && frames > 0) {
+            sinceRefresh = 0f;
+            rebuildText();
+            hudText.setText(text);
+        }
+
+        float panelW = 420f;
+        float panelH = 250f;
+        float x = w - panelW - 10f;
+        float y = h - panelH - 10f;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapes.setProjectionMatrix(projection);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+
+        shapes.setColor(0f, 0f, 0f, 0.6f);
+        shapes.rect(x, y, panelW, panelH);
+
+        // Frame graph, oldest on the left: full delta in grey, CPU part in green
+        float gx = x + (panelW - HISTORY) / 2f;
+        float gy = y + 8f;
+        for (int i = 0; i < HISTORY; i++) {
+            int k = (historyHead + i) % HISTORY;
+            shapes.setColor(0.45f, 0.45f, 0.5f, 1f);
+            shapes.rect(gx + i, gy, 1f, Math.min(frameMs[k], 40f) * GRAPH_MS_HEIGHT);
+            shapes.setColor(0.2f, 0.9f, 0.3f, 1f);
+            shapes.rect(gx + i, gy, 1f, Math.min(cpuMs[k], 40f) * GRAPH_MS_HEIGHT);
+        }
+        // 60 and 30 FPS budget lines
+        shapes.setColor(1f, 0.8f, 0.2f, 1f);
+        shapes.rect(gx, gy + 16.67f * GRAPH_MS_HEIGHT, HISTORY, 1f);
+        shapes.setColor(1f, 0.3f, 0.2f, 1f);
+        shapes.rect(gx, gy + 33.33f * GRAPH_MS_HEIGHT, HISTORY, 1f);
+
+        shapes.end();
+
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        hudText.setPosition(x + 8f, y + panelH - 8f).draw(batch);
+        batch.end();
+
+        glProfiler.reset(); // the HUD's own GL calls don't count towards the next frame
+        phaseSum[Phase.HUD.ordinal()] += System.nanoTime() - hudStart;
+    }
+
+    private void rebuildText() {
+        text.setLength(0);
+
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond());
+        text.append("   frame ");
+        appendMillis(deltaSum * 1_000_000_000L / frames);
+        text.append("   cpu ");
+        appendMillis(cpuSum / frames);
+        text.append(" (worst ");
+        appendMillis(cpuWorst);
+        text.append(")\n");
+
+        // Two phases per line
+        for (Phase phase : Phase.values()) {
+            text.append(phase.label).append(' ');
+            appendMillis(phaseSum[phase.ordinal()] / frames);
+            boolean last = phase.ordinal() == phaseSum.length - 1;
+            text.append(phase.ordinal() % 2 == 1 || last ? "\n" : "    ");
+        }
+
+        text.append("batch calls ").append(batchCalls).append(" (last pass ").append(lastPassCalls).append(")\n");
+        text.append("gl draws ").append(drawCalls)
+            .append("   textures ").append(textureBindings)
+            .append("   shaders ").append(shaderSwitches)
+            .append("   verts ").append(vertices).append('\n');
+
+        for (int i = 0; i < countSize; i++) {
+            text.append(countLabels[i]).append(' ').append(countValues[i]).append(i % 4 == 3 ? "\n" : "   ");
+        }
+        if (countSize % 4 != 0) text.append('\n');
+
+        // KB/s from the heap growth seen since the last rebuild
+        long kbPerSecond = deltaSum > 0f ? (long) (allocatedSum / 1024f / deltaSum) : 0L;
+        text.append("alloc ~").append(kbPerSecond).append(" KB/s");
+
+        resetAverages();
+    }
+
+    private void resetAverages() {
+        for (int i = 0; i < phaseSum.length; i++) {
+            phaseSum[i] = 0L;
+        }
+        cpuSum = 0L;
+        cpuWorst = 0L;
+        deltaSum = 0f;
+        frames = 0;
+        allocatedSum = 0L;
+    }
+
+    /** Appends nanos as milliseconds with three decimals, without going through String.format */
+    private void appendMillis(long nanos) {
+        long micros = nanos / 1000L;
+        text.append(micros / 1000L).append('.');
+        long frac = micros % 1000L;
+        if (frac < 100) text.append('0');
+        if (frac < 10) text.append('0');
+        text.append(frac).append(" ms");
+    }
+
+    private void appendMillis(float nanos) {
+        appendMillis((long) nanos);
+    }
+
+    private static long heapUsed() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public void dispose() {
+        glProfiler.disable();
+        shapes.dispose();
+        font.dispose();
+    }
+}
@@ -3,22 +3,28 @@ package com.oysgemutshet.venom;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Align;
 
 public class GameOverScreen extends ScreenAdapter {
 
     private final VengeanceOfVenomGame game;
     private final OrthographicCamera camera;
     private final BitmapFont font;
-    private final GlyphLayout layout;
+
+    // The level that just ended, held for a retry; null to build a fresh one
+    private LevelScreen retryLevel;
+
+    // Constant lines, laid out once (see CachedText)
+    private final CachedText titleText;
+    private final CachedText messageText;
+    private final CachedText jokeText;
+    private final CachedText retryText;
 
     private Music gameOverMusic;
     private float gameOverMusicTime = 0f;
@@ -28,28 +34,24 @@ public class GameOverScreen extends ScreenAdapter {
     private static final float GO_MUSIC_TARGET_VOLUME = 0.6f;
     private static final float GO_MUSIC_FADE_SPEED = 0.5f;
 
-    public GameOverScreen(VengeanceOfVenomGame game) {
+    public GameOverScreen(VengeanceOfVenomGame game, LevelScreen retryLevel) {
         this.game = game;
+        this.retryLevel = retryLevel;
         this.camera = new OrthographicCamera();
         this.camera.setToOrtho(false, 1280, 720);
 
-        FreeTypeFontGenerator generator =
-            new FreeTypeFontGenerator(Gdx.files.internal("fonts/russoone-regular.ttf"));
-        FreeTypeFontParameter params = new FreeTypeFontParameter();
-        params.size = 32;
-        params.color = Color.WHITE;
-
-        this.font = generator.generateFont(params);
-        generator.dispose();
+        this.font = game.getFonts().acquire(FontService.RUSSO_ONE);
 
-        this.layout = new GlyphLayout();
+        float lineScale = FontService.scaleFor(32f);
+        this.titleText = new CachedText(font, "GAME OVER", FontService.scaleFor(64f), Align.center);
+        this.messageText = new CachedText(font, "We were overwhelmed.", lineScale, Align.center);
+        this.jokeText = new CachedText(font, "But every cloud has a silver lining. Even mushroom clouds.", lineScale, Align.center);
+        this.retryText = new CachedText(font, "Press R to replay Level 1   |   Press ESC to return to intro", lineScale, Align.center);
 
-        // Initialize music with error handling
+        // Initialize music with error handling; preloaded, and shared with the other screens
         try {
-            com.badlogic.gdx.files.FileHandle musicFile = Gdx.files.internal("music/boaz_and_the_dogs.mp3");
-            if (musicFile.exists()) {
-                this.gameOverMusic = Gdx.audio.newMusic(musicFile);
-                gameOverMusic.setLooping(false);
+            if (AssetService.exists(AssetService.THEME_MUSIC)) {
+                this.gameOverMusic = game.getAssets().acquire(AssetService.THEME_MUSIC);
             } else {
                 this.gameOverMusic = null;
                 this.musicFileExists = false;
@@ -66,6 +68,8 @@ public class GameOverScreen extends ScreenAdapter {
     public void show() {
         if (gameOverMusic != null && musicFileExists) {
             try {
+                gameOverMusic.setLooping(false);
+                gameOverMusic.setOnCompletionListener(null);
                 gameOverMusic.setVolume(0f);
                 gameOverMusic.setPosition(0f);
                 gameOverMusic.play();
@@ -111,35 +115,31 @@ public class GameOverScreen extends ScreenAdapter {
 
         batch.begin();
 
-        // Big title
-        font.getData().setScale(2.0f);
-        String title = "GAME OVER";
-        layout.setText(font, title);
-        font.draw(batch, layout, (vw - layout.width) / 2f, vh * 0.62f);
-
-        // Venom-y line
-        font.getData().setScale(1.0f);
-        String msg = "We were overwhelmed.";
-        layout.setText(font, msg);
-        font.draw(batch, layout, (vw - layout.width) / 2f, vh * 0.48f);
-
-        // Bojacky line
-        String msg2 = "But every cloud has a silver lining. Even mushroom clouds.";
-        layout.setText(font, msg2);
-        font.draw(batch, layout, (vw - layout.width) / 2f, vh * 0.42f);
-
-        // Instructions
-        String retry = "Press R to replay Level 1   |   Press ESC to return to intro";
-        layout.setText(font, retry);
-        font.draw(batch, layout, (vw - layout.width) / 2f, vh * 0.30f);
+        float centerX = vw / 2f;
+        titleText.setPosition(centerX, vh * 0.62f).draw(batch);   // big title
+        messageText.setPosition(centerX, vh * 0.48f).draw(batch); // Venom-y line
+        jokeText.setPosition(centerX, vh * 0.42f).draw(batch);    // Bojacky line
+        retryText.setPosition(centerX, vh * 0.30f).draw(batch);   // instructions
         batch.end();
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
             // Restart Level 1
-            game.setScreenWithFade(new LevelScreen(game, new LevelOne(game)));
+            if (retryLevel != null) {
+                // Same level screen, reset in place: nothing to load, so no fade either
+                LevelScreen level = retryLevel;
+                retryLevel = null;
+                level.restart(MathUtils.random.nextLong());
+                game.setScreen(level);
+            } else {
+                game.setScreenWithFade(() -> new LevelScreen(game, new LevelOne(game)), LevelOne.ASSETS);
+            }
         } else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             // Back to intro
-            game.setScreenWithFade(new IntroScreen(game));
+            if (retryLevel != null) {
+                game.getScreens().drop(retryLevel);
+                retryLevel = null;
+            }
+            game.showMenu();
         }
     }
 
@@ -152,9 +152,14 @@ public class GameOverScreen extends ScreenAdapter {
 
     @Override
     public void dispose() {
+        // Left without R or ESC (a fade that was already running): the held level goes too
+        if (retryLevel != null) {
+            game.getScreens().drop(retryLevel);
+            retryLevel = null;
+        }
         if (gameOverMusic != null) {
-            gameOverMusic.dispose();
+            game.getAssets().release(AssetService.THEME_MUSIC);
         }
-        font.dispose();
+        game.getFonts().release(font);
     }
 }
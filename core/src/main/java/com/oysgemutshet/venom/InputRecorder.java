@@ -0,0 +1,144 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+
+/**
+ * Collects key events as they arrive (with their timestamps) and folds them into one
+ * {@link InputSnapshot} per simulation tick.
+ * <p>
+ * Unlike polling {@code isKeyJustPressed} once per frame, a press is never lost when a frame
+ * runs zero ticks and never counted twice when a frame runs several: each event is consumed by
+ * exactly one tick. Storage is a fixed ring buffer of primitives, so recording allocates nothing.
+ */
+public class InputRecorder extends InputAdapter {
+
+    private static final int CAPACITY = 256;
+
+    // Ring buffer of pending events
+    private final int[] keycodes = new int[CAPACITY];
+    private final boolean[] downs = new boolean[CAPACITY];
+    private final long[] times = new long[CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    // Key state after all events folded so far
+    private final boolean[] held = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+    // Presses folded but not yet handed out in a snapshot
+    private boolean jumpEdge, blobEdge, tongueEdge, skipEdge, backEdge;
+
+    @Override
+    public boolean keyDown(int keycode) {
+        if (!isGameKey(keycode)) return false;
+        enqueue(keycode, true);
+        return true;
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        if (!isGameKey(keycode)) return false;
+        enqueue(keycode, false);
+        return true;
+    }
+
+    private void enqueue(int keycode, boolean down) {
+        if (size == CAPACITY) {
+            // Way behind (e.g. long hitch): fold the oldest event now rather than drop it
+            fold(head);
+            head = (head + 1) % CAPACITY;
+            size--;
+        }
+
+        long time = Gdx.input != null ? Gdx.input.getCurrentEventTime() : 0L;
+        if (time == 0L) time = TimeUtils.nanoTime();
+
+        int slot = (head + size) % CAPACITY;
+        keycodes[slot] = keycode;
+        downs[slot] = down;
+        times[slot] = time;
+        size++;
+    }
+
+    /**
+     * Folds every event that happened at or before {@code untilNanos} and returns the
+     * snapshot for the tick ending at that time. Later events stay queued for later ticks.
+     */
+    public InputSnapshot poll(long untilNanos) {
+        while (size > 0 && times[head] <= untilNanos) {
+            fold(head);
+            head = (head + 1) % CAPACITY;
+            size--;
+        }
+
+        int axis = 0;
+        if (held[Input.Keys.A] || held[Input.Keys.LEFT]) {
+            axis = -1;
+        } else if (held[Input.Keys.D] || held[Input.Keys.RIGHT]) {
+            axis = 1;
+        }
+
+        InputSnapshot snapshot = InputSnapshot.of(axis, jumpEdge, blobEdge, tongueEdge, skipEdge, backEdge);
+        jumpEdge = blobEdge = tongueEdge = skipEdge = backEdge = false;
+        return snapshot;
+    }
+
+    private void fold(int slot) {
+        int keycode = keycodes[slot];
+        boolean down = downs[slot];
+        held[keycode] = down;
+        if (!down) return;
+
+        switch (keycode) {
+            case Input.Keys.SPACE:
+                jumpEdge = true;
+                skipEdge = true;
+                break;
+            case Input.Keys.W:
+            case Input.Keys.UP:
+                jumpEdge = true;
+                break;
+            case Input.Keys.F:
+                blobEdge = true;
+                break;
+            case Input.Keys.G:
+                tongueEdge = true;
+                break;
+            case Input.Keys.ESCAPE:
+                backEdge = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Forgets queued events and held keys (e.g. when the level screen is shown again). */
+    public void clear() {
+        head = 0;
+        size = 0;
+        Arrays.fill(held, false);
+        jumpEdge = blobEdge = tongueEdge = skipEdge = backEdge = false;
+    }
+
+    private static boolean isGameKey(int keycode) {
+        switch (keycode) {
+            case Input.Keys.A:
+            case Input.Keys.D:
+            case Input.Keys.LEFT:
+            case Input.Keys.RIGHT:
+            case Input.Keys.SPACE:
+            case Input.Keys.W:
+            case Input.Keys.UP:
+            case Input.Keys.F:
+            case Input.Keys.G:
+            case Input.Keys.ESCAPE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.oysgemutshet.venom;
+
+/**
+ * Immutable view of the controls for one simulation tick: the held move direction
+ * plus which buttons were pressed since the previous tick.
+ * <p>
+ * There are only 96 possible snapshots, so they are all created up front and
+ * {@link #of} just looks one up; building a snapshot every tick allocates nothing.
+ */
+public final class InputSnapshot {
+
+    private static final int JUMP   = 1;
+    private static final int BLOB   = 1 << 1;
+    private static final int TONGUE = 1 << 2;
+    private static final int SKIP   = 1 << 3;
+    private static final int BACK   = 1 << 4;
+
+    private static final InputSnapshot[] ALL = new InputSnapshot[3 * 32];
+    static {
+        for (int axis = -1; axis <= 1; axis++) {
+            for (int flags = 0; flags < 32; flags++) {
+                ALL[index(axis, flags)] = new InputSnapshot(axis, flags);
+            }
+        }
+    }
+
+    /** No keys held, nothing pressed */
+    public static final InputSnapshot NONE = of(0, false, false, false, false, false);
+
+    private final int moveAxis;
+    private final int flags;
+
+    private InputSnapshot(int moveAxis, int flags) {
+        this.moveAxis = moveAxis;
+        this.flags = flags;
+    }
+
+    /**
+     * @param moveAxis -1 = left, 0 = none, 1 = right (anything else is clamped)
+     */
+    public static InputSnapshot of(int moveAxis, boolean jump, boolean blob, boolean tongue,
+                                   boolean skip, boolean back) {
+        int axis = moveAxis < 0 ? -1 : (moveAxis > 0 ? 1 : 0);
+        int flags = (jump ? JUMP : 0)
+            | (blob ? BLOB : 0)
+            | (tongue ? TONGUE : 0)
+            | (skip ? SKIP : 0)
+            | (back ? BACK : 0);
+        return ALL[index(axis, flags)];
+    }
+
+    private static int index(int axis, int flags) {
+        return (axis + 1) * 32 + flags;
+    }
+
+    /** -1 = move left, 0 = stand still, 1 = move right */
+    public float getMoveAxis() {
+        return moveAxis;
+    }
+
+    /** Jump was pressed this tick (SPACE / W / UP) */
+    public boolean isJumpPressed() {
+        return (flags & JUMP) != 0;
+    }
+
+    /** Blob shot was pressed this tick (F) */
+    public boolean isBlobPressed() {
+        return (flags & BLOB) != 0;
+    }
+
+    /** Tongue was pressed this tick (G) */
+    public boolean isTonguePressed() {
+        return (flags & TONGUE) != 0;
+    }
+
+    /** Skip-intro was pressed this tick (SPACE) */
+    public boolean isSkipPressed() {
+        return (flags & SKIP) != 0;
+    }
+
+    /** Back to menu was pressed this tick (ESC) */
+    public boolean isBackPressed() {
+        return (flags & BACK) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "InputSnapshot(axis=" + moveAxis + ", flags=" + Integer.toBinaryString(flags) + ")";
+    }
+}
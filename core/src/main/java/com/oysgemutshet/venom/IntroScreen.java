@@ -3,22 +3,35 @@ package com.oysgemutshet.venom;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.TimeUtils;
 
 public class IntroScreen extends ScreenAdapter {
 
+    /** Assets the menu acquires, for {@link VengeanceOfVenomGame#setScreenWithFade} */
+    public static final AssetDescriptor<?>[] ASSETS = {
+        AssetService.RUSSO_ONE_FONT,
+        AssetService.THEME_MUSIC
+    };
+
     private final VengeanceOfVenomGame game;
     private final OrthographicCamera camera;
     private final BitmapFont font;
-    private final GlyphLayout layout;
+
+    // Laid out once and redrawn from cached vertices (see CachedText)
+    private final CachedText titleText;
+    private final CachedText storyText;
+    private final CachedText levelsText;
+    private final CachedText settingsText;
+    private final CachedText level1Text;
+    private final CachedText testLevelText;
 
     private Music introMusic;
     private float introMusicTime = 0f;
@@ -41,37 +54,39 @@ public class IntroScreen extends ScreenAdapter {
     private int mainMenuSelection = 0; // 0: Levels, 1: Settings
     private int levelSelection = 0; // 0: Level 1, 1: Test Level
 
+    private final long buildNanos; // constructor time, reported with the first menu frame
+
     public IntroScreen(VengeanceOfVenomGame game) {
+        long start = TimeUtils.nanoTime();
         this.game = game;
         this.camera = new OrthographicCamera();
         this.camera.setToOrtho(false, 1280, 720);
 
-        // FONT SETUP (unchanged)
-        FreeTypeFontGenerator generator =
-            new FreeTypeFontGenerator(Gdx.files.internal("fonts/RussoOne-Regular.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter param =
-            new FreeTypeFontGenerator.FreeTypeFontParameter();
-        param.size = 32;
-        param.color = Color.WHITE;
-        this.font = generator.generateFont(param);
-        generator.dispose();
-
-        this.layout = new GlyphLayout();
+        this.font = game.getFonts().acquire(FontService.RUSSO_ONE);
+
+        float menuScale = FontService.scaleFor(38f);
+        this.titleText = new CachedText(font, "THE RETURN OF VENOM", FontService.scaleFor(80f), Align.center);
+        this.storyText = new CachedText(font, "A poisonous cure", FontService.scaleFor(32f), Align.center);
+        this.levelsText = new CachedText(font, "Levels", menuScale, Align.center);
+        this.settingsText = new CachedText(font, "Settings", menuScale, Align.center);
+        this.level1Text = new CachedText(font, "Making it through the night", menuScale, Align.center);
+        this.testLevelText = new CachedText(font, "Test Level", menuScale, Align.center);
+        this.buildNanos = TimeUtils.timeSinceNanos(start);
     }
 
     @Override
     public void show() {
         // Check if music file exists before trying to load it
-        FileHandle musicFile = Gdx.files.internal("music/boaz_and_the_dogs.mp3");
-        musicExists = musicFile.exists();
+        musicExists = AssetService.exists(AssetService.THEME_MUSIC);
 
         if (musicExists) {
-            // Create music lazily if needed
+            // Preloaded; the level and game over screens share the same Music
             if (introMusic == null) {
-                introMusic = Gdx.audio.newMusic(musicFile);
-                introMusic.setLooping(false);
+                introMusic = game.getAssets().acquire(AssetService.THEME_MUSIC);
             }
 
+            introMusic.setLooping(false);
+            introMusic.setOnCompletionListener(null);
             introMusic.setVolume(0f);  // start silent for fade-in
             introMusic.setPosition(0f); // just to be safe, restart from the beginning
             introMusic.play();
@@ -122,20 +137,10 @@ public class IntroScreen extends ScreenAdapter {
         batch.begin();
 
         // Title
-        String title = "THE RETURN OF VENOM";
-        font.getData().setScale(2.5f);
-        layout.setText(font, title);
-        float titleX = (vw - layout.width) / 2f;
-        float titleY = vh * 0.75f;
-        font.draw(batch, layout, titleX, titleY);
+        titleText.setPosition(vw / 2f, vh * 0.75f).draw(batch);
 
         // Story line
-        String story = "A poisonous cure";
-        font.getData().setScale(1.0f);
-        layout.setText(font, story);
-        float storyX = (vw - layout.width) / 2f;
-        float storyY = vh * 0.65f;
-        font.draw(batch, layout, storyX, storyY);
+        storyText.setPosition(vw / 2f, vh * 0.65f).draw(batch);
 
         if (currentState == MenuState.MAIN_MENU) {
             renderMainMenu(batch, vw, vh);
@@ -144,84 +149,26 @@ public class IntroScreen extends ScreenAdapter {
         }
 
         batch.end();
+        game.menuFrameDrawn(buildNanos);
 
         handleInput();
     }
 
     private void renderMainMenu(SpriteBatch batch, float vw, float vh) {
-        font.getData().setScale(1.2f);
-
-        // Calculate center position for menu items
         float centerX = vw / 2f;
-
-        // Levels option
-        String levelsText = "Levels";
-        layout.setText(font, levelsText);
-        float levelsX = centerX - layout.width / 2f;
-        float levelsY = vh * 0.45f;
-
-        // Set color based on selection
-        if (mainMenuSelection == 0) {
-            font.setColor(SELECTED_RED);
-        } else {
-            font.setColor(Color.WHITE);
-        }
-        font.draw(batch, levelsText, levelsX, levelsY);
-
-        // Settings option
-        String settingsText = "Settings";
-        layout.setText(font, settingsText);
-        float settingsX = centerX - layout.width / 2f;
-        float settingsY = vh * 0.35f;
-
-        // Set color based on selection
-        if (mainMenuSelection == 1) {
-            font.setColor(SELECTED_RED);
-        } else {
-            font.setColor(Color.WHITE);
-        }
-        font.draw(batch, settingsText, settingsX, settingsY);
-
-        // Reset color to white for future text
-        font.setColor(Color.WHITE);
+        drawOption(batch, levelsText, mainMenuSelection == 0, centerX, vh * 0.45f);
+        drawOption(batch, settingsText, mainMenuSelection == 1, centerX, vh * 0.35f);
     }
 
     private void renderLevelSelect(SpriteBatch batch, float vw, float vh) {
-        font.getData().setScale(1.2f);
-
-        // Calculate center position for menu items
         float centerX = vw / 2f;
+        drawOption(batch, level1Text, levelSelection == 0, centerX, vh * 0.50f);
+        drawOption(batch, testLevelText, levelSelection == 1, centerX, vh * 0.40f);
+    }
 
-        // Level 1 option
-        String level1Text = "Making it through the night";
-        layout.setText(font, level1Text);
-        float level1X = centerX - layout.width / 2f;
-        float level1Y = vh * 0.50f;
-
-        // Set color based on selection
-        if (levelSelection == 0) {
-            font.setColor(SELECTED_RED);
-        } else {
-            font.setColor(Color.WHITE);
-        }
-        font.draw(batch, level1Text, level1X, level1Y);
-
-        // Test Level option
-        String testLevelText = "Test Level";
-        layout.setText(font, testLevelText);
-        float testLevelX = centerX - layout.width / 2f;
-        float testLevelY = vh * 0.40f;
-
-        // Set color based on selection
-        if (levelSelection == 1) {
-            font.setColor(SELECTED_RED);
-        } else {
-            font.setColor(Color.WHITE);
-        }
-        font.draw(batch, testLevelText, testLevelX, testLevelY);
-
-        // Reset color to white for future text
-        font.setColor(Color.WHITE);
+    /** Menu item centred on x, red when selected */
+    private void drawOption(SpriteBatch batch, CachedText option, boolean selected, float x, float y) {
+        option.setColor(selected ? SELECTED_RED : Color.WHITE).setPosition(x, y).draw(batch);
     }
 
     private void handleInput() {
@@ -266,14 +213,10 @@ public class IntroScreen extends ScreenAdapter {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             if (levelSelection == 0) {
                 // Level 1 selected
-                LevelOne levelOne = new LevelOne(game);
-                LevelScreen levelScreen = new LevelScreen(game, levelOne);
-                game.setScreenWithFade(levelScreen);
+                game.setScreenWithFade(() -> new LevelScreen(game, new LevelOne(game)), LevelOne.ASSETS);
             } else if (levelSelection == 1) {
                 // Test Level selected
-                TestLevel testLevel = new TestLevel(game);
-                LevelScreen levelScreen = new LevelScreen(game, testLevel);
-                game.setScreenWithFade(levelScreen);
+                game.setScreenWithFade(() -> new LevelScreen(game, new TestLevel(game)), TestLevel.ASSETS);
             }
         }
 
@@ -293,8 +236,8 @@ public class IntroScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         if (introMusic != null) {
-            introMusic.dispose();
+            game.getAssets().release(AssetService.THEME_MUSIC);
         }
-        font.dispose();
+        game.getFonts().release(font);
     }
 }
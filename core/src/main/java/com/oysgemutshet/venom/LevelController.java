@@ -8,8 +8,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
 public abstract class LevelController {
-    public abstract void update(float delta);
-    public abstract void render(OrthographicCamera camera, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, GlyphLayout layout);
+    // Called once per fixed simulation tick; delta is always the tick length,
+    // input holds the keys pressed since the previous tick.
+    public abstract void update(float delta, InputSnapshot input);
+    // alpha (0..1) = how far real time is between the previous and the current tick, for interpolation
+    public abstract void render(OrthographicCamera camera, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, GlyphLayout layout, float alpha);
     public abstract void dispose();
+    public abstract void reset(long seed); // Start over in place for a retry, keeping textures, fonts and music
     public void hide() {} // Optional method for cleanup when screen is hidden
+    public void resize(int width, int height) {} // Optional: window / back buffer size changed
+    public void collectStats(FrameProfiler profiler) {} // Optional: report entity counts etc. to the F3 HUD / telemetry
 }
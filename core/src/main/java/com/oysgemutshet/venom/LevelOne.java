@@ -2,29 +2,30 @@
 package com.oysgemutshet.venom;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Align;
 
 public class LevelOne extends LevelController {
 
-    private static final float GROUND_TOP_Y = 80f;
-    private static final float GROUND_HEIGHT = 30f;
+    /** Loaded during the fade into Level 1; includes the font and renderer LevelScreen acquires */
+    public static final AssetDescriptor<?>[] ASSETS = {
+        AssetService.RUSSO_ONE_FONT,
+        AssetService.CITY_NIGHT,
+        AssetService.THEME_MUSIC,
+        AssetService.SHAPES
+    };
 
-    private enum Phase {
-        INTRO,
-        GAMEPLAY
-    }
+    private static final float GROUND_TOP_Y = LevelOneSimulation.GROUND_TOP_Y;
 
     // Data for intro dialogue lines
     private static class IntroLine {
@@ -55,37 +56,20 @@ public class LevelOne extends LevelController {
         new IntroLine("LEVEL 1 - MAKING IT THROUGH THE NIGHT",               40.8f, 4.5f, true,  true)
     };
 
+    private static final String HELP_TEXT = "Move: A / D or Arrows   Jump: SPACE or UP  F: Blob   G: Tongue   ESC: Back to Main Menu";
+    private static final float HEALTH_BAR_BACK = Color.toFloatBits(0.2f, 0.2f, 0.25f, 1f);
+    private static final float HEALTH_BAR_FILL = Color.toFloatBits(0.7f, 0.1f, 0.1f, 1f);
+
     // Core
     private final VengeanceOfVenomGame game;
-    private final OrthographicCamera camera;
-    private final ShapeRenderer shapes;
     private final BitmapFont font;
-    private final GlyphLayout layout;
+    private final CachedText helpText;
+    private final CachedText introText;
     private final Texture cityBackground;
+    private final SceneryCache scenery; // background + street, buildings, truck baked into one texture
 
-    // Player & world
-    private final VenomPlayer venom;
-    private final Array<Rectangle> platforms = new Array<>();
-
-    // Named platforms (for drawing buildings and truck)
-    private Rectangle groundPlatform;
-    private Rectangle leftRoofPlatform;
-    private Rectangle rightRoofPlatform;
-    private Rectangle truckPlatform;
-
-    // Venom projectiles
-    private final Array<BlobProjectile> blobs = new Array<>();
-    private float blobCooldown = 0f;
-
-    // Enemies & bullets & cars
-    private final Array<PoliceOfficer> police = new Array<>();
-    private final Array<PoliceBullet> policeBullets = new Array<>();
-    private final Array<PoliceCar> policeCars = new Array<>();
-    private float spawnTimer = 0f;
-    private float policeCarTimer = 40f;
-
-    // Health
-    private float playerHealth = 1.0f;
+    // Gameplay state (no GL / audio / input in there)
+    private final LevelOneSimulation sim;
 
     // Music
     private Music levelMusic;
@@ -94,51 +78,24 @@ public class LevelOne extends LevelController {
     private static final float MUSIC_START_TIME = 62f;
     private boolean musicFileExists = true; // Flag to track if music file exists
 
-    // Damage cooldown
-    private float damageCooldown = 0f;
-    private static final float DAMAGE_COOLDOWN_TIME = 1f; // 1 second between damage
-
-    // Phase & intro timing
-    private Phase phase = Phase.INTRO;
-    private float introTime = 0f;
-
-    // Police spawn difficulty tuning
-    private static final float EASY_POLICE_SPAWN_INTERVAL = 6f;   // before first car
-    private static final float HARD_POLICE_SPAWN_INTERVAL = 2.1f; // after first car (slightly more often)
-
-    private float policeSpawnInterval = EASY_POLICE_SPAWN_INTERVAL;
-    private boolean firstPoliceCarSpawned = false;
-
-    // Screen boundaries
-    private static final float LEFT_WALL = 0f;
-    private final float RIGHT_WALL; // Will be set in constructor based on camera
+    // Level music loops from 1:02, not from the top
+    private final Music.OnCompletionListener loopFromStartTime = new Music.OnCompletionListener() {
+        @Override
+        public void onCompletion(Music music) {
+            music.play();
+            music.setPosition(MUSIC_START_TIME);
+        }
+    };
 
     public LevelOne(VengeanceOfVenomGame game) {
         this.game = game;
-        this.camera = new OrthographicCamera();
-        this.camera.setToOrtho(false, 1280, 720);
-
-        // Set right wall based on camera viewport
-        this.RIGHT_WALL = camera.viewportWidth;
-
-        this.shapes = new ShapeRenderer();
-        this.cityBackground = new Texture(Gdx.files.internal("backgrounds/city_night.png"));
+        this.cityBackground = game.getAssets().acquire(AssetService.CITY_NIGHT);
 
-        // Initialize music with error handling
+        // Initialize music with error handling; preloaded, and shared with the menu screens,
+        // so it is only set up for this level when it starts playing
         try {
-            FileHandle musicFile = Gdx.files.internal("music/boaz_and_the_dogs.mp3");
-            if (musicFile.exists()) {
-                this.levelMusic = Gdx.audio.newMusic(musicFile);
-                levelMusic.setLooping(false);
-                levelMusic.setVolume(0.6f);
-
-                levelMusic.setOnCompletionListener(new Music.OnCompletionListener() {
-                    @Override
-                    public void onCompletion(Music music) {
-                        music.play();
-                        music.setPosition(MUSIC_START_TIME);
-                    }
-                });
+            if (AssetService.exists(AssetService.THEME_MUSIC)) {
+                this.levelMusic = game.getAssets().acquire(AssetService.THEME_MUSIC);
             } else {
                 this.levelMusic = null;
                 this.musicFileExists = false;
@@ -153,104 +110,112 @@ public class LevelOne extends LevelController {
         musicStarted = false;
         musicDelay = 3f;
 
-        // Use your TTF font here – change name if needed
-        FileHandle fontFile = Gdx.files.internal("fonts/RussoOne-Regular.ttf");
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
-        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        param.size = 28;
-        param.color = Color.WHITE;
-        this.font = generator.generateFont(param);
-        generator.dispose();
-
-        this.layout = new GlyphLayout();
-
-        rightRoofPlatform = new Rectangle(850, 380, 200, 20);
-        platforms.add(rightRoofPlatform);
-
-        // Venom starts on top of the highest roof, near the right edge, facing right
-        float venomStartX = rightRoofPlatform.x + rightRoofPlatform.width - 50f; // 50 is a small margin
-        float venomStartY = rightRoofPlatform.y + rightRoofPlatform.height;
-        this.venom = new VenomPlayer(venomStartX, venomStartY);
-
-        this.spawnTimer = 0f;
-        this.playerHealth = 1.0f;
-
-        // Ground
-        groundPlatform = new Rectangle(
-            0,
-            GROUND_TOP_Y - GROUND_HEIGHT,
-            1280,
-            GROUND_HEIGHT
-        );
-        platforms.add(groundPlatform);
-
-        // Truck collider: solid block from street up to the roof
-        float truckX      = 180f;
-        float truckWidth  = 200f;
-        float truckHeight = 100f; // adjust to taste; controls how tall the truck is
-
-        truckPlatform = new Rectangle(truckX, GROUND_TOP_Y, truckWidth, truckHeight);
-        platforms.add(truckPlatform);
-
-        // Mid / high rooftops
-        leftRoofPlatform = new Rectangle(500, 280, 220, 20);
-        platforms.add(leftRoofPlatform);
+        this.font = game.getFonts().acquire(FontService.RUSSO_ONE);
+
+        this.helpText = new CachedText(font, HELP_TEXT, FontService.scaleFor(22f), Align.center);
+        this.introText = new CachedText(font);
+        introText.setAlign(Align.center);
+
+        this.sim = new LevelOneSimulation(MathUtils.random.nextLong(), getIntroDuration());
+
+        this.scenery = new SceneryCache(LevelOneSimulation.WORLD_WIDTH, LevelOneSimulation.WORLD_HEIGHT, this::paintScenery);
     }
 
+    /**
+     * Retry: the simulation starts over with the new seed and goes straight to gameplay, since
+     * the intro has been seen. Background, scenery, fonts and music stay loaded.
+     */
     @Override
-    public void update(float delta) {
-        if (phase == Phase.INTRO) {
-            updateIntro(delta);
-        } else {
-            updateGameplay(delta);
-        }
+    public void reset(long seed) {
+        sim.reset(seed);
+        sim.skipToGameplay();
+        musicStarted = false;
+        musicDelay = 1.0f; // as when the intro ends
+    }
+
+    /** Seconds until the last intro line has faded out. */
+    public static float getIntroDuration() {
+        IntroLine last = INTRO_LINES[INTRO_LINES.length - 1];
+        return last.start + last.duration;
     }
 
     @Override
-    public void render(OrthographicCamera camera, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, GlyphLayout layout) {
-        float vw = camera.viewportWidth;
-        float vh = camera.viewportHeight;
+    public void update(float delta, InputSnapshot input) {
+        LevelOneSimulation.Phase before = sim.getPhase();
+        sim.update(delta, input);
+        game.getProfiler().add(FrameProfiler.Phase.COLLISION, sim.getCollisionNanos());
 
-        // 1) Draw background
-        batch.begin();
-        batch.draw(cityBackground, 0, 0, vw, vh); // stretch to fill screen
-        batch.end();
+        if (sim.getPhase() != LevelOneSimulation.Phase.GAMEPLAY) return;
 
-        // 2) Draw world: platforms, Venom, blobs, police, bullets, health bar
-        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        if (before == LevelOneSimulation.Phase.INTRO) {
+            // gameplay just started: music follows shortly after
+            musicStarted = false;
+            musicDelay = 1.0f;
+        }
 
-        // Ground street
-        renderGround(shapes, groundPlatform);
+        updateMusic(delta);
 
-        // Rooftops
-        renderBuildingRoof(shapes, leftRoofPlatform);
-        renderBuildingRoof(shapes, rightRoofPlatform);
+        // Check game over; straight cut, and this level waits there for a retry
+        if (sim.isGameOver()) {
+            game.showGameOver();
+            return;
+        }
 
-        // Big city object: truck
-        renderTruckPlatform(shapes, truckPlatform);
+        if (input.isBackPressed()) {
+            game.showMenu();
+        }
+    }
 
-        // Venom (he sets his own colors)
-        venom.render(shapes);
+    @Override
+    public void render(OrthographicCamera camera, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, GlyphLayout layout, float alpha) {
+        float vw = camera.viewportWidth;
+        float vh = camera.viewportHeight;
+        FrameProfiler profiler = game.getProfiler();
+        DrawList list = game.getDrawList();
+
+        // 1) Draw background and static scenery (one cached quad)
+        profiler.begin(FrameProfiler.Phase.BACKGROUND);
+        scenery.draw(batch, shapes);
+        profiler.end(FrameProfiler.Phase.BACKGROUND);
+
+        // 2) World: Venom, police, blobs, bullets, health bar. Submitted to the draw list,
+        //    which draws them sorted by layer at the end
+        profiler.begin(FrameProfiler.Phase.WORLD_SHAPES);
+        CharacterAtlas atlas = game.getCharacterAtlas();
+        if (atlas != null) {
+            // Characters as baked sprites, one quad each
+            sim.getVenom().render(list, atlas, alpha);
+            for (PoliceOfficer officer : sim.getPolice()) {
+                officer.render(list, atlas, alpha);
+            }
+            for (PoliceCar car : sim.getPoliceCars()) {
+                car.render(list, atlas, alpha);
+            }
+        } else {
+            // Procedural characters draw straight away: they sit right above the scenery anyway
+            shapes.begin(ShapeRenderer.ShapeType.Filled);
 
-        // Symbiote blobs
-        for (BlobProjectile blob : blobs) {
-            blob.render(shapes);
-        }
+            // Venom (he sets his own colors)
+            sim.getVenom().render(shapes, alpha);
 
-        // Police officers
-        for (PoliceOfficer officer : police) {
-            officer.render(shapes);
-        }
+            // Police officers
+            for (PoliceOfficer officer : sim.getPolice()) {
+                officer.render(shapes, alpha);
+            }
 
-        // Police bullets
-        for (PoliceBullet bullet : policeBullets) {
-            bullet.render(shapes);
+            // Police cars
+            for (PoliceCar car : sim.getPoliceCars()) {
+                car.render(shapes, alpha);
+            }
+
+            shapes.end();
         }
 
-        // Police cars
-        for (PoliceCar car : policeCars) {
-            car.render(shapes);
+        // Symbiote blobs and police bullets
+        for (BlobProjectile blob : sim.getBlobs()) {
+            blob.render(list, alpha);
         }
+        list.bullets(DrawList.LAYER_PROJECTILES, sim.getPoliceBullets(), Color.LIGHT_GRAY, alpha);
 
         // Health bar (top-left)
         float barWidth  = 200f;
@@ -259,58 +224,94 @@ public class LevelOne extends LevelController {
         float barY = vh - 40f;
 
         // Bar background
-        shapes.setColor(0.2f, 0.2f, 0.25f, 1f);
-        shapes.rect(barX, barY, barWidth, barHeight);
+        list.rect(DrawList.LAYER_HUD, barX, barY, barWidth, barHeight, HEALTH_BAR_BACK);
 
         // Current health (playerHealth = 0..1)
-        shapes.setColor(0.7f, 0.1f, 0.1f, 1f);
-        shapes.rect(barX, barY, barWidth * playerHealth, barHeight);
+        list.rect(DrawList.LAYER_HUD, barX, barY, barWidth * sim.getPlayerHealth(), barHeight, HEALTH_BAR_FILL);
+        profiler.end(FrameProfiler.Phase.WORLD_SHAPES);
 
-        shapes.end();
-
-        batch.begin();
-
-        if (phase == Phase.GAMEPLAY) {
+        profiler.begin(FrameProfiler.Phase.TEXT);
+        if (sim.getPhase() == LevelOneSimulation.Phase.GAMEPLAY) {
             // show help only during gameplay
-            font.getData().setScale(0.8f);
-            String help = "Move: A / D or Arrows   Jump: SPACE or UP  F: Blob   G: Tongue   ESC: Back to Main Menu";
-            layout.setText(font, help);
-            font.draw(batch, layout, (vw - layout.width) / 2f, 30);
+            list.text(DrawList.LAYER_TEXT, helpText.setPosition(vw / 2f, 30f));
         } else {
             // INTRO: draw cinematic text above Venom / center
-            renderIntroText(batch, vw, vh);
+            renderIntroText(list, vw, vh);
         }
+        profiler.end(FrameProfiler.Phase.TEXT);
 
-        batch.end();
+        profiler.begin(FrameProfiler.Phase.DRAW_LIST);
+        list.flush(batch, shapes, game.getCircleBatch(), camera.combined);
+        profiler.end(FrameProfiler.Phase.DRAW_LIST);
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        scenery.invalidate(); // back buffer size changed
+    }
+
+    @Override
+    public void collectStats(FrameProfiler profiler) {
+        profiler.count("blobs", sim.getBlobs().size);
+        profiler.count("officers", sim.getPolice().size);
+        profiler.count("bullets", sim.getPoliceBullets().size());
+        profiler.count("cars", sim.getPoliceCars().size);
+        DrawList list = game.getDrawList();
+        profiler.count("draw cmds", list.getLastCommands());
+        profiler.count("passes", list.getLastPasses());
     }
 
     @Override
     public void dispose() {
-        shapes.dispose();
-        font.dispose();
-        cityBackground.dispose();
+        game.getFonts().release(font);
+        scenery.dispose();
+        game.getAssets().release(AssetService.CITY_NIGHT);
         if (levelMusic != null) {
-            levelMusic.dispose();
+            game.getAssets().release(AssetService.THEME_MUSIC);
         }
     }
 
     @Override
     public void hide() {
-        if (levelMusic != null && levelMusic.isPlaying()) {
-            levelMusic.stop();
+        if (levelMusic != null) {
+            if (levelMusic.isPlaying()) {
+                levelMusic.stop();
+            }
+            levelMusic.setOnCompletionListener(null); // the next screen plays the same Music
         }
     }
 
+    // Everything that never moves; painted into the scenery cache, not every frame
+    private void paintScenery(SpriteBatch batch, ShapeRenderer shapes) {
+        batch.begin();
+        batch.draw(cityBackground, 0, 0, LevelOneSimulation.WORLD_WIDTH, LevelOneSimulation.WORLD_HEIGHT); // stretch to fill screen
+        batch.end();
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+
+        // Ground street
+        renderGround(shapes, sim.getGroundPlatform());
+
+        // Rooftops
+        renderBuildingRoof(shapes, sim.getLeftRoofPlatform());
+        renderBuildingRoof(shapes, sim.getRightRoofPlatform());
+
+        // Big city object: truck
+        renderTruckPlatform(shapes, sim.getTruckPlatform());
+
+        shapes.end();
+    }
+
     // All the private helper methods remain the same...
-    private void renderIntroText(SpriteBatch batch, float vw, float vh) {
-        if (phase != Phase.INTRO) return;
+    private void renderIntroText(DrawList list, float vw, float vh) {
+        if (sim.getPhase() != LevelOneSimulation.Phase.INTRO) return;
 
         IntroLine active = null;
         float alpha = 0f;
 
         // Find which line should be visible and its alpha (for fade in/out)
         for (IntroLine line : INTRO_LINES) {
-            float t = introTime - line.start;
+            float t = sim.getIntroTime() - line.start;
             if (t < 0f || t > line.duration) continue;
 
             float fade = line.big ? 1.0f : 0.7f; // longer fade for big center title
@@ -331,34 +332,21 @@ public class LevelOne extends LevelController {
 
         if (active == null || alpha <= 0f) return;
 
-        // Set font style based on line type
-        if (active.big) {
-            font.getData().setScale(2.0f);
-        } else {
-            font.getData().setScale(0.9f);
-        }
-        font.setColor(1f, 1f, 1f, alpha);
-
-        layout.setText(font, active.text);
-
-        float x, y;
+        // One CachedText for all lines: it is only laid out again when the line changes
+        introText.setText(active.text)
+            .setScale(FontService.scaleFor(active.big ? 56f : 25f))
+            .setColor(1f, 1f, 1f, alpha);
 
         if (active.center) {
             // Center of the screen
-            x = (vw - layout.width) / 2f;
-            y = vh * 0.6f;
+            introText.setPosition(vw / 2f, vh * 0.6f);
         } else {
             // Above Venom's head
-            Rectangle vb = venom.getBounds();
-            float centerX = vb.x + vb.width * 0.5f;
-            x = centerX - layout.width * 0.5f;
-            y = vb.y + vb.height + 45f;
+            Rectangle vb = sim.getVenom().getBounds();
+            introText.setPosition(vb.x + vb.width * 0.5f, vb.y + vb.height + 45f);
         }
 
-        font.draw(batch, layout, x, y);
-
-        // reset color
-        font.setColor(1f, 1f, 1f, 1f);
+        list.text(DrawList.LAYER_TEXT, introText);
     }
 
     // Draw the main ground as a street
@@ -482,45 +470,15 @@ public class LevelOne extends LevelController {
         }
     }
 
-    private void updateIntro(float delta) {
-        introTime += delta;
-
-        // Allow skipping intro with SPACE (optional; remove if you don't want this)
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            skipToGameplay();
-            return;
-        }
-
-        // When intro is done, switch to gameplay
-        IntroLine last = INTRO_LINES[INTRO_LINES.length - 1];
-        float endTime = last.start + last.duration;
-        if (introTime > endTime + 0.5f) {
-            skipToGameplay();
-        }
-    }
-
-    private void skipToGameplay() {
-        phase = Phase.GAMEPLAY;
-
-        // reset timers so gameplay starts fresh
-        spawnTimer = 0f;
-        policeCarTimer = 38f;
-
-        // difficulty reset
-        firstPoliceCarSpawned = false;
-        policeSpawnInterval = EASY_POLICE_SPAWN_INTERVAL;
-
-        // music
-        musicStarted = false;
-        musicDelay = 1.0f;
-    }
-
-    private void updateGameplay(float delta) {
+    private void updateMusic(float delta) {
         // Delayed music start - only if music file exists
         if (!musicStarted && levelMusic != null && musicFileExists) {
             musicDelay -= delta;
             if (musicDelay <= 0f) {
                 try {
+                    levelMusic.setLooping(false);
+                    levelMusic.setVolume(0.6f);
+                    levelMusic.setOnCompletionListener(loopFromStartTime);
                     levelMusic.play();
                     levelMusic.setPosition(MUSIC_START_TIME); // jump to 1:02 right after starting
                     musicStarted = true;
@@ -530,182 +488,9 @@ public class LevelOne extends LevelController {
                 }
             }
         }
-
-        venom.update(delta, platforms);
-
-        // ENFORCE SCREEN BOUNDARIES - Add this section
-        enforceScreenBoundaries();
-
-        // Blob shooting cooldown
-        if (blobCooldown > 0f) {
-            blobCooldown -= delta;
-        }
-
-        // Damage cooldown (needed so we don't run out of health as soon as e.g. touching police)
-        if (damageCooldown > 0f) {
-            damageCooldown -= delta;
-        }
-
-        // Spawn policemen (interval depends on difficulty)
-        spawnTimer -= delta;
-        if (spawnTimer <= 0f) {
-            spawnTimer = policeSpawnInterval;
-
-            boolean fromLeft = Math.random() < 0.5;
-            int dir = fromLeft ? 1 : -1;
-            float startX = fromLeft ? -40f : camera.viewportWidth + 40f;
-            float groundY = GROUND_TOP_Y;
-
-            // Before first police car: 1 bullet per burst; after: 3 bullets
-            int burstSize = firstPoliceCarSpawned ? 3 : 1;
-
-            police.add(new PoliceOfficer(startX, groundY, dir, burstSize));
-        }
-
-        // Update police & their bullets
-        for (int i = police.size - 1; i >= 0; i--) {
-            PoliceOfficer o = police.get(i);
-            o.update(delta, policeBullets);
-            if (!o.isAlive() || o.isOffscreen(camera.viewportWidth)) {
-                police.removeIndex(i);
-            }
-        }
-
-        for (int i = policeBullets.size - 1; i >= 0; i--) {
-            PoliceBullet b = policeBullets.get(i);
-            b.update(delta);
-            if (!b.isAlive()) {
-                policeBullets.removeIndex(i);
-            }
-        }
-
-        // Spawn police car every 38 seconds (first one after ~40s)
-        policeCarTimer -= delta;
-        if (policeCarTimer <= 0f) {
-            policeCarTimer = 38f;
-
-            boolean fromLeft = Math.random() < 0.5;
-            int dir = fromLeft ? 1 : -1;
-            float startX = fromLeft ? -150f : camera.viewportWidth + 150f;
-
-            policeCars.add(new PoliceCar(startX, GROUND_TOP_Y, dir));
-
-            // First police car just spawned → step up difficulty
-            if (!firstPoliceCarSpawned) {
-                firstPoliceCarSpawned = true;
-                policeSpawnInterval = HARD_POLICE_SPAWN_INTERVAL;
-            }
-        }
-
-        // Update police cars
-        for (int i = policeCars.size - 1; i >= 0; i--) {
-            PoliceCar car = policeCars.get(i);
-            car.update(delta);
-            if (!car.isAlive() || car.isOffscreen(camera.viewportWidth)) {
-                policeCars.removeIndex(i);
-            }
-        }
-
-        Rectangle venomBounds = venom.getBounds();
-
-        // Police bullets hit Venom
-        for (int i = policeBullets.size - 1; i >= 0; i--) {
-            PoliceBullet b = policeBullets.get(i);
-            if (b.isAlive() && b.getBounds().overlaps(venomBounds)) {
-                b.destroy();
-                playerHealth -= 0.05f;
-                if (playerHealth < 0f) playerHealth = 0f;
-            }
-        }
-
-        // Police car hits Venom = instant death
-        for (PoliceCar car : policeCars) {
-            if (car.isAlive() && car.getBounds().overlaps(venomBounds)) {
-                playerHealth = 0f; // instant kill
-                break;
-            }
-        }
-
-        // Venom touches police
-        for (PoliceOfficer o : police) {
-            if (o.isAlive() && o.getBounds().overlaps(venomBounds) && damageCooldown <= 0f) {
-                playerHealth -= 0.05f;
-                if (playerHealth < 0f) playerHealth = 0f;
-                damageCooldown = DAMAGE_COOLDOWN_TIME; // Reset cooldown
-                break; // Only take damage from one officer per frame
-            }
-        }
-
-        // Venom blobs hit police
-        for (int i = blobs.size - 1; i >= 0; i--) {
-            BlobProjectile blob = blobs.get(i);
-            if (!blob.isAlive()) continue;
-
-            Rectangle blobRect = blob.getBounds();
-            for (PoliceOfficer o : police) {
-                if (o.isAlive() && o.getBounds().overlaps(blobRect)) {
-                    o.registerHit();
-                    blob.destroy();
-                    break;
-                }
-            }
-        }
-
-        // Venom tongue hits police
-        Rectangle tongueRect = venom.getTongueHitbox();
-        if (tongueRect != null) {
-            for (PoliceOfficer o : police) {
-                if (o.isAlive() && o.getBounds().overlaps(tongueRect)) {
-                    o.registerHit();
-                }
-            }
-        }
-
-        // Check game over
-        if (playerHealth <= 0f) {
-            game.setScreen(new GameOverScreen(game));
-            return;
-        }
-
-        // Shoot blob with F
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F) && blobCooldown <= 0f) {
-            float mx = venom.getMouthX();
-            float my = venom.getMouthY();
-            int dir = venom.isFacingRight() ? 1 : -1;
-
-            blobs.add(new BlobProjectile(mx, my, dir));
-            blobCooldown = 0.25f; // 4 blobs per second max
-        }
-
-        // Update blobs and remove dead ones
-        for (int i = blobs.size - 1; i >= 0; i--) {
-            BlobProjectile b = blobs.get(i);
-            b.update(delta);
-            if (!b.isAlive()) {
-                blobs.removeIndex(i);
-            }
-        }
-
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreenWithFade(new IntroScreen(game));
-        }
     }
 
-    private void enforceScreenBoundaries() {
-        Rectangle venomBounds = venom.getBounds();
-
-        // Left boundary - prevent going off left side of screen
-        if (venomBounds.x < LEFT_WALL) {
-            venomBounds.x = LEFT_WALL;
-            // Stop horizontal movement when hitting the wall
-            venom.getVelocity().x = 0;
-        }
-
-        // Right boundary - prevent going off right side of screen
-        if (venomBounds.x + venomBounds.width > RIGHT_WALL) {
-            venomBounds.x = RIGHT_WALL - venomBounds.width;
-            // Stop horizontal movement when hitting the wall
-            venom.getVelocity().x = 0;
-        }
+    public LevelOneSimulation getSimulation() {
+        return sim;
     }
 }
@@ -0,0 +1,465 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Gameplay state of Level 1 (platforms, Venom, police, bullets, cars, health, timers)
+ * without any graphics, audio or Gdx.input. {@link LevelOne} draws it and plays the music;
+ * headless tools can tick it directly, as fast as they like.
+ */
+public class LevelOneSimulation {
+
+    public static final float WORLD_WIDTH = 1280f;
+    public static final float WORLD_HEIGHT = 720f;
+    public static final float GROUND_TOP_Y = 80f;
+    public static final float GROUND_HEIGHT = 30f;
+
+    public enum Phase {
+        INTRO,
+        GAMEPLAY
+    }
+
+    // Player & world
+    private final VenomPlayer venom;
+    private final float venomStartX, venomStartY;
+    private final Array<Rectangle> platforms = new Array<>();
+    private final PlatformIndex platformIndex; // built once, platforms never move
+
+    // Named platforms (for drawing buildings and truck)
+    private final Rectangle groundPlatform;
+    private final Rectangle leftRoofPlatform;
+    private final Rectangle rightRoofPlatform;
+    private final Rectangle truckPlatform;
+
+    // Short-lived entities come from (and go back to) these pools
+    private final EntityPools pools;
+
+    // Venom projectiles
+    // (unordered arrays: removeIndex swaps in the last element instead of shifting)
+    private final Array<BlobProjectile> blobs = new Array<>(false, 16);
+    private float blobCooldown = 0f;
+
+    // Enemies & bullets & cars
+    private final Array<PoliceOfficer> police = new Array<>(false, 16);
+    private final BulletField policeBullets = new BulletField(POLICE_BULLET_RADIUS, POLICE_BULLET_MAX_AGE, 256);
+    private final Array<PoliceCar> policeCars = new Array<>(false, 4);
+    private float spawnTimer = 0f;
+    private float policeCarTimer = 40f;
+
+    // Collision broadphase for officers, rebuilt every tick (items are indices into police).
+    // Bullets don't need one: they only ever hit Venom, a single tight loop in BulletField.
+    private final SpatialHash officerHash = new SpatialHash();
+    private final IntArray candidates = new IntArray();
+    private long collisionNanos = 0L; // time spent in resolveCollisions() during the last tick
+
+    // Spawn side decisions come from here, so a seed reproduces a run
+    private final RandomXS128 random;
+
+    // Health
+    private float playerHealth = 1.0f;
+    private boolean gameOver = false;
+
+    // Damage cooldown
+    private float damageCooldown = 0f;
+    private static final float DAMAGE_COOLDOWN_TIME = 1f; // 1 second between damage
+
+    // Phase & intro timing
+    private Phase phase = Phase.INTRO;
+    private float introTime = 0f;
+    private final float introDuration;
+
+    // Police spawn difficulty tuning
+    private static final float EASY_POLICE_SPAWN_INTERVAL = 6f;   // before first car
+    private static final float HARD_POLICE_SPAWN_INTERVAL = 2.1f; // after first car (slightly more often)
+
+    private float policeSpawnInterval = EASY_POLICE_SPAWN_INTERVAL;
+    private boolean firstPoliceCarSpawned = false;
+
+    // Police bullets
+    public static final float POLICE_BULLET_RADIUS = 4f;
+    private static final float POLICE_BULLET_MAX_AGE = 10f;
+
+    // Screen boundaries
+    private static final float LEFT_WALL = 0f;
+    private static final float RIGHT_WALL = WORLD_WIDTH;
+
+    /**
+     * @param seed          seed for spawn randomness
+     * @param introDuration seconds of intro before gameplay starts on its own
+     */
+    public LevelOneSimulation(long seed, float introDuration) {
+        this(seed, introDuration, new EntityPools());
+    }
+
+    public LevelOneSimulation(long seed, float introDuration, EntityPools pools) {
+        this.pools = pools;
+        this.random = new RandomXS128(seed);
+        this.introDuration = introDuration;
+
+        rightRoofPlatform = new Rectangle(850, 380, 200, 20);
+        platforms.add(rightRoofPlatform);
+
+        // Venom starts on top of the highest roof, near the right edge, facing right
+        venomStartX = rightRoofPlatform.x + rightRoofPlatform.width - 50f; // 50 is a small margin
+        venomStartY = rightRoofPlatform.y + rightRoofPlatform.height;
+        this.venom = new VenomPlayer(venomStartX, venomStartY);
+
+        // Ground
+        groundPlatform = new Rectangle(
+            0,
+            GROUND_TOP_Y - GROUND_HEIGHT,
+            WORLD_WIDTH,
+            GROUND_HEIGHT
+        );
+        platforms.add(groundPlatform);
+
+        // Truck collider: solid block from street up to the roof
+        float truckX      = 180f;
+        float truckWidth  = 200f;
+        float truckHeight = 100f; // adjust to taste; controls how tall the truck is
+
+        truckPlatform = new Rectangle(truckX, GROUND_TOP_Y, truckWidth, truckHeight);
+        platforms.add(truckPlatform);
+
+        // Mid / high rooftops
+        leftRoofPlatform = new Rectangle(500, 280, 220, 20);
+        platforms.add(leftRoofPlatform);
+
+        platformIndex = new PlatformIndex(platforms);
+
+        policeBullets.setBounds(0f, 0f, WORLD_WIDTH, WORLD_HEIGHT);
+    }
+
+    /**
+     * Puts the level back the way the constructor left it, with a new seed: Venom on the roof,
+     * full health, intro phase, no police, bullets, cars or blobs (they go back to the pools),
+     * every timer and the difficulty at their start values. Platforms are kept.
+     */
+    public void reset(long seed) {
+        random.setSeed(seed);
+
+        venom.reset(venomStartX, venomStartY);
+        playerHealth = 1.0f;
+        gameOver = false;
+        damageCooldown = 0f;
+
+        pools.blobs.freeAll(blobs);
+        blobs.clear();
+        blobCooldown = 0f;
+        pools.officers.freeAll(police);
+        police.clear();
+        pools.cars.freeAll(policeCars);
+        policeCars.clear();
+        policeBullets.clear();
+        officerHash.clear();
+        spawnTimer = 0f;
+        policeCarTimer = 40f;
+        collisionNanos = 0L;
+
+        phase = Phase.INTRO;
+        introTime = 0f;
+        policeSpawnInterval = EASY_POLICE_SPAWN_INTERVAL;
+        firstPoliceCarSpawned = false;
+    }
+
+    /** Advances the level by one tick. Does nothing once the game is over. */
+    public void update(float delta, InputSnapshot input) {
+        collisionNanos = 0L;
+        if (gameOver) return;
+
+        if (phase == Phase.INTRO) {
+            updateIntro(delta, input);
+        } else {
+            updateGameplay(delta, input);
+        }
+    }
+
+    private void updateIntro(float delta, InputSnapshot input) {
+        introTime += delta;
+
+        // Allow skipping intro with SPACE (optional; remove if you don't want this)
+        if (input.isSkipPressed()) {
+            skipToGameplay();
+            return;
+        }
+
+        // When intro is done, switch to gameplay
+        if (introTime > introDuration + 0.5f) {
+            skipToGameplay();
+        }
+    }
+
+    public void skipToGameplay() {
+        phase = Phase.GAMEPLAY;
+
+        // reset timers so gameplay starts fresh
+        spawnTimer = 0f;
+        policeCarTimer = 38f;
+
+        // difficulty reset
+        firstPoliceCarSpawned = false;
+        policeSpawnInterval = EASY_POLICE_SPAWN_INTERVAL;
+    }
+
+    private void updateGameplay(float delta, InputSnapshot input) {
+        venom.update(delta, input, platformIndex);
+
+        enforceScreenBoundaries();
+
+        // Blob shooting cooldown
+        if (blobCooldown > 0f) {
+            blobCooldown -= delta;
+        }
+
+        // Damage cooldown (needed so we don't run out of health as soon as e.g. touching police)
+        if (damageCooldown > 0f) {
+            damageCooldown -= delta;
+        }
+
+        // Spawn policemen (interval depends on difficulty)
+        spawnTimer -= delta;
+        if (spawnTimer <= 0f) {
+            spawnTimer = policeSpawnInterval;
+
+            boolean fromLeft = random.nextBoolean();
+            int dir = fromLeft ? 1 : -1;
+            float startX = fromLeft ? -40f : WORLD_WIDTH + 40f;
+            float groundY = GROUND_TOP_Y;
+
+            // Before first police car: 1 bullet per burst; after: 3 bullets
+            int burstSize = firstPoliceCarSpawned ? 3 : 1;
+
+            police.add(pools.obtainOfficer(startX, groundY, dir, burstSize));
+        }
+
+        // Update police & their bullets
+        for (int i = police.size - 1; i >= 0; i--) {
+            PoliceOfficer o = police.get(i);
+            o.update(delta, policeBullets);
+            if (!o.isAlive() || o.isOffscreen(WORLD_WIDTH)) {
+                pools.officers.free(police.removeIndex(i));
+            }
+        }
+
+        policeBullets.update(delta);
+
+        // Spawn police car every 38 seconds (first one after ~40s)
+        policeCarTimer -= delta;
+        if (policeCarTimer <= 0f) {
+            policeCarTimer = 38f;
+
+            boolean fromLeft = random.nextBoolean();
+            int dir = fromLeft ? 1 : -1;
+            float startX = fromLeft ? -150f : WORLD_WIDTH + 150f;
+
+            policeCars.add(pools.obtainCar(startX, GROUND_TOP_Y, dir));
+
+            // First police car just spawned → step up difficulty
+            if (!firstPoliceCarSpawned) {
+                firstPoliceCarSpawned = true;
+                policeSpawnInterval = HARD_POLICE_SPAWN_INTERVAL;
+            }
+        }
+
+        // Update police cars
+        for (int i = policeCars.size - 1; i >= 0; i--) {
+            PoliceCar car = policeCars.get(i);
+            car.update(delta);
+            if (!car.isAlive() || car.isOffscreen(WORLD_WIDTH)) {
+                pools.cars.free(policeCars.removeIndex(i));
+            }
+        }
+
+        long collisionStart = System.nanoTime();
+        resolveCollisions();
+        collisionNanos = System.nanoTime() - collisionStart;
+
+        // Check game over
+        if (playerHealth <= 0f) {
+            gameOver = true;
+            return;
+        }
+
+        // Shoot blob with F
+        if (input.isBlobPressed() && blobCooldown <= 0f) {
+            float mx = venom.getMouthX();
+            float my = venom.getMouthY();
+            int dir = venom.isFacingRight() ? 1 : -1;
+
+            blobs.add(pools.obtainBlob(mx, my, dir));
+            blobCooldown = 0.25f; // 4 blobs per second max
+        }
+
+        // Update blobs and remove dead ones
+        for (int i = blobs.size - 1; i >= 0; i--) {
+            BlobProjectile b = blobs.get(i);
+            b.update(delta);
+            if (!b.isAlive()) {
+                pools.blobs.free(blobs.removeIndex(i));
+            }
+        }
+    }
+
+    private void resolveCollisions() {
+        Rectangle venomBounds = venom.getBounds();
+
+        // Broadphase: rebuild the grid, then only test pairs that share a cell
+        officerHash.clear();
+        for (int i = 0; i < police.size; i++) {
+            PoliceOfficer o = police.get(i);
+            if (o.isAlive()) officerHash.insert(i, o.getBounds());
+        }
+
+        // Police bullets hit Venom
+        int bulletHits = policeBullets.collide(venomBounds);
+        if (bulletHits > 0) {
+            playerHealth -= 0.05f * bulletHits;
+            if (playerHealth < 0f) playerHealth = 0f;
+        }
+
+        // Police car hits Venom = instant death (only ever a couple of cars: no broadphase)
+        for (int i = 0; i < policeCars.size; i++) {
+            PoliceCar car = policeCars.get(i);
+            if (car.isAlive() && car.getBounds().overlaps(venomBounds)) {
+                playerHealth = 0f; // instant kill
+                break;
+            }
+        }
+
+        // Venom touches police
+        if (damageCooldown <= 0f) {
+            candidates.clear();
+            officerHash.query(venomBounds, candidates);
+            for (int c = 0; c < candidates.size; c++) {
+                PoliceOfficer o = police.get(candidates.get(c));
+                if (o.getBounds().overlaps(venomBounds)) {
+                    playerHealth -= 0.05f;
+                    if (playerHealth < 0f) playerHealth = 0f;
+                    damageCooldown = DAMAGE_COOLDOWN_TIME; // Reset cooldown
+                    break; // Only take damage from one officer per frame
+                }
+            }
+        }
+
+        // Venom blobs hit police
+        for (int i = blobs.size - 1; i >= 0; i--) {
+            BlobProjectile blob = blobs.get(i);
+            if (!blob.isAlive()) continue;
+
+            Rectangle blobRect = blob.getBounds();
+            candidates.clear();
+            officerHash.query(blobRect, candidates);
+            for (int c = 0; c < candidates.size; c++) {
+                PoliceOfficer o = police.get(candidates.get(c));
+                if (o.isAlive() && o.getBounds().overlaps(blobRect)) {
+                    o.registerHit();
+                    blob.destroy();
+                    break;
+                }
+            }
+        }
+
+        // Venom tongue hits police
+        Rectangle tongueRect = venom.getTongueHitbox();
+        if (tongueRect != null) {
+            candidates.clear();
+            officerHash.query(tongueRect, candidates);
+            for (int c = 0; c < candidates.size; c++) {
+                PoliceOfficer o = police.get(candidates.get(c));
+                if (o.isAlive() && o.getBounds().overlaps(tongueRect)) {
+                    o.registerHit();
+                }
+            }
+        }
+    }
+
+    private void enforceScreenBoundaries() {
+        Rectangle venomBounds = venom.getBounds();
+
+        // Left boundary - prevent going off left side of screen
+        if (venomBounds.x < LEFT_WALL) {
+            venomBounds.x = LEFT_WALL;
+            // Stop horizontal movement when hitting the wall
+            venom.getVelocity().x = 0;
+        }
+
+        // Right boundary - prevent going off right side of screen
+        if (venomBounds.x + venomBounds.width > RIGHT_WALL) {
+            venomBounds.x = RIGHT_WALL - venomBounds.width;
+            // Stop horizontal movement when hitting the wall
+            venom.getVelocity().x = 0;
+        }
+    }
+
+    public EntityPools getPools() {
+        return pools;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public float getIntroTime() {
+        return introTime;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /** Nanoseconds the last {@link #update} spent on collision checks (for the profiler HUD) */
+    public long getCollisionNanos() {
+        return collisionNanos;
+    }
+
+    public float getPlayerHealth() {
+        return playerHealth;
+    }
+
+    public VenomPlayer getVenom() {
+        return venom;
+    }
+
+    public Array<Rectangle> getPlatforms() {
+        return platforms;
+    }
+
+    public PlatformIndex getPlatformIndex() {
+        return platformIndex;
+    }
+
+    public Rectangle getGroundPlatform() {
+        return groundPlatform;
+    }
+
+    public Rectangle getLeftRoofPlatform() {
+        return leftRoofPlatform;
+    }
+
+    public Rectangle getRightRoofPlatform() {
+        return rightRoofPlatform;
+    }
+
+    public Rectangle getTruckPlatform() {
+        return truckPlatform;
+    }
+
+    public Array<BlobProjectile> getBlobs() {
+        return blobs;
+    }
+
+    public Array<PoliceOfficer> getPolice() {
+        return police;
+    }
+
+    public BulletField getPoliceBullets() {
+        return policeBullets;
+    }
+
+    public Array<PoliceCar> getPoliceCars() {
+        return policeCars;
+    }
+}
@@ -3,15 +3,13 @@ package com.oysgemutshet.venom;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
 
 public class LevelScreen extends ScreenAdapter {
 
@@ -23,30 +21,51 @@ public class LevelScreen extends ScreenAdapter {
     private final BitmapFont font;
     private final GlyphLayout layout;
 
+    // Simulation runs at a fixed tick rate; rendering interpolates between ticks
+    private final FixedTimestep timestep;
+
+    // Key events are queued here and handed to the level one snapshot per tick
+    private final InputRecorder inputRecorder = new InputRecorder();
+
     public LevelScreen(VengeanceOfVenomGame game, LevelController controller) {
+        this(game, controller, FixedTimestep.DEFAULT_TICK_RATE);
+    }
+
+    public LevelScreen(VengeanceOfVenomGame game, LevelController controller, float tickRate) {
         this.game = game;
         this.controller = controller;
+        this.timestep = new FixedTimestep(tickRate, FixedTimestep.DEFAULT_MAX_STEPS_PER_FRAME);
 
         this.camera = new OrthographicCamera();
         this.camera.setToOrtho(false, 1280, 720);
 
-        this.shapes = new ShapeRenderer();
+        this.shapes = game.getAssets().acquire(AssetService.SHAPES);
 
-        // Generic game font (you can reuse your Anton or whatever)
-        FileHandle fontFile = Gdx.files.internal("fonts/RussoOne-Regular.ttf"); // change if needed
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
-        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        param.size = 28;
-        param.color = Color.WHITE;
-        this.font = generator.generateFont(param);
-        generator.dispose();
+        // Generic game font, shared with the other screens
+        this.font = game.getFonts().acquire(FontService.RUSSO_ONE);
 
         this.layout = new GlyphLayout();
     }
 
     @Override
     public void render(float delta) {
-        controller.update(delta);
+        FrameProfiler profiler = game.getProfiler();
+
+        long now = TimeUtils.nanoTime();
+        int steps = timestep.advance(delta);
+        float step = timestep.getStepSeconds();
+        profiler.begin(FrameProfiler.Phase.UPDATE);
+        for (int i = 0; i < steps; i++) {
+            // Spread this frame's key events over its ticks by timestamp;
+            // the last tick takes everything up to now so no press waits for the next frame
+            long tickEnd = now - (long) ((steps - 1 - i) * step * 1_000_000_000L);
+            controller.update(step, inputRecorder.poll(tickEnd));
+            if (game.getScreen() != this) { // level switched screens mid-frame
+                profiler.end(FrameProfiler.Phase.UPDATE);
+                return;
+            }
+        }
+        profiler.end(FrameProfiler.Phase.UPDATE);
 
         Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -59,19 +78,49 @@ public class LevelScreen extends ScreenAdapter {
         sr.setProjectionMatrix(camera.combined);
         batch.setProjectionMatrix(camera.combined);
 
-        controller.render(camera, sr, batch, font, layout);
+        controller.render(camera, sr, batch, font, layout, timestep.getAlpha());
+
+        if (profiler.isActive()) {
+            controller.collectStats(profiler);
+        }
+    }
+
+    @Override
+    public void show() {
+        // Don't try to catch up on time spent on another screen
+        timestep.reset();
+
+        inputRecorder.clear();
+        Gdx.input.setInputProcessor(inputRecorder);
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        controller.resize(width, height);
+    }
+
+    /** Starts the level over in place (see {@link LevelController#reset}); show() follows when it is set as screen */
+    public void restart(long seed) {
+        controller.reset(seed);
+    }
+
+    public FixedTimestep getTimestep() {
+        return timestep;
     }
 
     @Override
     public void hide() {
         // This gets called automatically when switching away from this screen
+        if (Gdx.input.getInputProcessor() == inputRecorder) {
+            Gdx.input.setInputProcessor(null);
+        }
         controller.hide();
     }
 
     @Override
     public void dispose() {
-        shapes.dispose();
-        font.dispose();
+        game.getAssets().release(AssetService.SHAPES);
+        game.getFonts().release(font);
         controller.dispose();
     }
 }
@@ -0,0 +1,132 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Read-only index over a level's static platforms, built once when the level is created.
+ * Platforms are stored as primitive edges sorted by their left edge, so finding the ones
+ * in an x range is a binary search plus a short scan instead of a pass over every platform.
+ * <p>
+ * The scan has to start as far left of the range as the widest platform is wide, so a few
+ * oversized platforms (a street running under the whole level) would make it start at the
+ * level's left edge every time. Those are kept apart, at the front of the arrays, and
+ * checked on every query; only the ordinary ones are binary searched.
+ * <p>
+ * Usage (allocation-free once {@code out} has grown):
+ * <pre>
+ * nearby.clear();
+ * index.query(x0, x1, nearby);
+ * for (int n = 0; n &lt; nearby.size; n++) {
+ *     int i = nearby.get(n);
+ *     ... index.minY(i), index.maxY(i) ...
+ * }
+ * </pre>
+ * The index copies the rectangles; moving a platform afterwards means building a new index.
+ */
+public class PlatformIndex {
+
+    // A platform this many times wider than the median one is checked on every query instead of searched
+    private static final float WIDE_FACTOR = 4f;
+
+    private final float[] minX;
+    private final float[] minY;
+    private final float[] maxX;
+    private final float[] maxY;
+    private final int wideCount;  // [0, wideCount) are the oversized platforms, the rest is sorted by minX
+    private final float maxWidth; // widest sorted platform; bounds how far left of x0 an overlapping one can start
+
+    public PlatformIndex(Array<Rectangle> platforms) {
+        int n = platforms.size;
+
+        float[] widths = new float[n];
+        for (int i = 0; i < n; i++) {
+            widths[i] = platforms.get(i).width;
+        }
+        Arrays.sort(widths);
+        float wideLimit = n > 1 ? widths[n / 2] * WIDE_FACTOR : Float.MAX_VALUE;
+
+        Array<Rectangle> wide = new Array<>();
+        Array<Rectangle> sorted = new Array<>(n);
+        for (Rectangle p : platforms) {
+            (p.width > wideLimit ? wide : sorted).add(p);
+        }
+        sorted.sort((a, b) -> Float.compare(a.x, b.x));
+
+        minX = new float[n];
+        minY = new float[n];
+        maxX = new float[n];
+        maxY = new float[n];
+        wideCount = wide.size;
+
+        for (int i = 0; i < wide.size; i++) {
+            store(i, wide.get(i));
+        }
+        float widest = 0f;
+        for (int i = 0; i < sorted.size; i++) {
+            Rectangle p = sorted.get(i);
+            store(wideCount + i, p);
+            widest = Math.max(widest, p.width);
+        }
+        maxWidth = widest;
+    }
+
+    private void store(int i, Rectangle p) {
+        minX[i] = p.x;
+        minY[i] = p.y;
+        maxX[i] = p.x + p.width;
+        maxY[i] = p.y + p.height;
+    }
+
+    /**
+     * Appends to {@code out} the index of every platform that overlaps [x0, x1) horizontally.
+     * {@code out} is not cleared first.
+     */
+    public void query(float x0, float x1, IntArray out) {
+        for (int i = 0; i < wideCount; i++) {
+            if (minX[i] < x1 && maxX[i] > x0) out.add(i);
+        }
+        for (int i = first(x0); i < minX.length && minX[i] < x1; i++) {
+            if (maxX[i] > x0) out.add(i);
+        }
+    }
+
+    /** Index of the first sorted platform that could reach x0 or beyond */
+    private int first(float x0) {
+        float key = x0 - maxWidth;
+        int lo = wideCount;
+        int hi = minX.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (minX[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public int size() {
+        return minX.length;
+    }
+
+    public float minX(int i) {
+        return minX[i];
+    }
+
+    public float minY(int i) {
+        return minY[i];
+    }
+
+    public float maxX(int i) {
+        return maxX[i];
+    }
+
+    public float maxY(int i) {
+        return maxY[i];
+    }
+}
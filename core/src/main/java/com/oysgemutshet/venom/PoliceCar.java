@@ -4,38 +4,74 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
 
-public class PoliceCar {
+public class PoliceCar implements Pool.Poolable {
 
     private static final float CAR_SPEED = 420f; // faster than policemen
-    private final Rectangle bounds;
-    private final int dir; // 1 = right, -1 = left
+    public static final float CAR_WIDTH = 110f;
+    public static final float CAR_HEIGHT = 40f;
+
+    private final Rectangle bounds = new Rectangle(0, 0, CAR_WIDTH, CAR_HEIGHT);
+    private float prevX; // x at the start of the last tick (for render interpolation)
+    private int dir; // 1 = right, -1 = left
 
     private boolean alive = true;
     private float stateTime = 0f; // for blinking lights
 
+    /** Pooled instances start dead; call {@link #init} before use */
+    public PoliceCar() {
+        alive = false;
+    }
+
     public PoliceCar(float x, float groundTopY, int dir) {
+        init(x, groundTopY, dir);
+    }
+
+    public void init(float x, float groundTopY, int dir) {
         this.dir = dir;
-        float width = 110f;
-        float height = 40f;
 
         // bottom of car sits on the ground
-        this.bounds = new Rectangle(x, groundTopY, width, height);
+        this.bounds.setPosition(x, groundTopY);
+        this.prevX = x;
+        this.stateTime = 0f;
+        this.alive = true;
+    }
+
+    @Override
+    public void reset() {
+        bounds.setPosition(0f, 0f);
+        prevX = 0f;
+        stateTime = 0f;
+        alive = false;
     }
 
     public void update(float delta) {
         if (!alive) return;
+        prevX = bounds.x;
         stateTime += delta;
         bounds.x += dir * CAR_SPEED * delta;
     }
 
-    public void render(ShapeRenderer renderer) {
+    public void render(ShapeRenderer renderer, float alpha) {
+        if (!alive) return;
+        drawFigure(renderer, MathUtils.lerp(prevX, bounds.x, alpha), bounds.y, isBlinkPhase());
+    }
+
+    /** Same picture as {@link #render(ShapeRenderer, float)}, as one baked atlas quad */
+    public void render(DrawList list, CharacterAtlas atlas, float alpha) {
         if (!alive) return;
+        atlas.drawCar(list, MathUtils.lerp(prevX, bounds.x, alpha), bounds.y, isBlinkPhase());
+    }
+
+    private boolean isBlinkPhase() {
+        return ((int)(stateTime * 6f) % 2) == 0; // toggle ~6 times per second
+    }
 
-        float x = bounds.x;
-        float y = bounds.y;
-        float w = bounds.width;
-        float h = bounds.height;
+    /** Draws a car with its wheels at (x, y); shared by the procedural path and atlas baking */
+    static void drawFigure(ShapeRenderer renderer, float x, float y, boolean blinkPhase) {
+        float w = CAR_WIDTH;
+        float h = CAR_HEIGHT;
 
         // Wheels
         renderer.setColor(Color.BLACK);
@@ -72,8 +108,6 @@ public class PoliceCar {
         float barX = x + w * 0.35f;
         float barY = cabinY + cabinH;
 
-        boolean blinkPhase = ((int)(stateTime * 6f) % 2) == 0; // toggle ~6 times per second
-
         // Left light
         renderer.setColor(blinkPhase ? Color.RED : Color.BLUE);
         renderer.rect(barX, barY, barW * 0.5f, barH);
@@ -2,21 +2,30 @@ package com.oysgemutshet.venom;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
-public class PoliceOfficer {
+public class PoliceOfficer implements Pool.Poolable {
 
     private static final float WALK_SPEED = 70f;
     private static final int   MAX_HITS   = 3;
     private static final float SHOOT_INTERVAL = 0.18f; // time between bullets in a burst
     private static final float SHOOT_COOLDOWN = 2.5f;  // time between bursts
+    private static final float BULLET_SPEED = 380f;
+
+    public static final float WIDTH = 26f;
+    public static final float HEIGHT = 60f;
+
+    // light blue police uniform
+    private static final Color UNIFORM_COLOR = new Color(0.35f, 0.55f, 0.95f, 1f);
 
     public enum State { WALKING, SHOOTING }
 
-    private final Rectangle bounds;
-    private final int dir;        // 1 = right, -1 = left
-    private final int burstSize;  // how many bullets per burst (1 in easy, 3 in hard)
+    private final Rectangle bounds = new Rectangle(0, 0, WIDTH, HEIGHT);
+    private float prevX; // x at the start of the last tick (for render interpolation)
+    private int dir;        // 1 = right, -1 = left
+    private int burstSize;  // how many bullets per burst (1 in easy, 3 in hard)
 
     private State state = State.WALKING;
     private float stateTimer = 0f;
@@ -24,15 +33,43 @@ public class PoliceOfficer {
     private int hitsTaken = 0;
     private boolean alive = true;
 
+    /** Pooled instances start dead; call {@link #init} before use */
+    public PoliceOfficer() {
+        alive = false;
+    }
+
     public PoliceOfficer(float x, float y, int dir, int burstSize) {
+        init(x, y, dir, burstSize);
+    }
+
+    public void init(float x, float y, int dir, int burstSize) {
         this.dir = dir;
         this.burstSize = Math.max(1, burstSize); // safety: at least 1
-        this.bounds = new Rectangle(x, y, 26, 60);
+        this.bounds.setPosition(x, y);
+        this.prevX = x;
+        this.state = State.WALKING;
+        this.stateTimer = 0f;
+        this.bulletsShotInBurst = 0;
+        this.hitsTaken = 0;
+        this.alive = true;
+    }
+
+    @Override
+    public void reset() {
+        bounds.setPosition(0f, 0f);
+        prevX = 0f;
+        state = State.WALKING;
+        stateTimer = 0f;
+        bulletsShotInBurst = 0;
+        hitsTaken = 0;
+        alive = false;
     }
 
-    public void update(float delta, Array<PoliceBullet> bullets) {
+    public void update(float delta, BulletField bullets) {
         if (!alive) return;
 
+        prevX = bounds.x;
+
         stateTimer += delta;
 
         switch (state) {
@@ -56,7 +93,7 @@ public class PoliceOfficer {
                     float muzzleX = (dir == 1) ? bounds.x + bounds.width : bounds.x;
                     float muzzleY = bounds.y + bounds.height * 0.55f;
 
-                    bullets.add(new PoliceBullet(muzzleX, muzzleY, dir));
+                    bullets.spawn(muzzleX, muzzleY, dir * BULLET_SPEED, 0f);
                 }
 
                 // Done with this burst → go back to walking
@@ -68,13 +105,21 @@ public class PoliceOfficer {
         }
     }
 
-    public void render(ShapeRenderer renderer) {
+    public void render(ShapeRenderer renderer, float alpha) {
         if (!alive) return;
+        drawFigure(renderer, MathUtils.lerp(prevX, bounds.x, alpha), bounds.y);
+    }
 
-        float x = bounds.x;
-        float y = bounds.y;
-        float w = bounds.width;
-        float h = bounds.height;
+    /** Same picture as {@link #render(ShapeRenderer, float)}, as one baked atlas quad */
+    public void render(DrawList list, CharacterAtlas atlas, float alpha) {
+        if (!alive) return;
+        atlas.drawOfficer(list, MathUtils.lerp(prevX, bounds.x, alpha), bounds.y);
+    }
+
+    /** Draws an officer with his feet at (x, y); shared by the procedural path and atlas baking */
+    static void drawFigure(ShapeRenderer renderer, float x, float y) {
+        float w = WIDTH;
+        float h = HEIGHT;
 
         float headH  = h * 0.25f;
         float bodyH  = h * 0.45f;
@@ -84,16 +129,13 @@ public class PoliceOfficer {
         float bodyY  = y + legH;
         float legsY  = y;
 
-        // light blue police uniform
-        Color uniform = new Color(0.35f, 0.55f, 0.95f, 1f);
-
         // legs (dark pants)
         renderer.setColor(0.15f, 0.18f, 0.22f, 1f);
         renderer.rect(x + w * 0.1f, legsY, w * 0.32f, legH);
         renderer.rect(x + w * 0.58f, legsY, w * 0.32f, legH);
 
         // body (shirt)
-        renderer.setColor(uniform);
+        renderer.setColor(UNIFORM_COLOR);
         renderer.rect(x + w * 0.1f, bodyY, w * 0.8f, bodyH);
 
         // head (skin)
@@ -101,7 +143,7 @@ public class PoliceOfficer {
         renderer.rect(x + w * 0.15f, headY, w * 0.7f, headH);
 
         // hat
-        renderer.setColor(uniform);
+        renderer.setColor(UNIFORM_COLOR);
         renderer.rect(x + w * 0.1f, headY + headH, w * 0.8f, headH * 0.7f);
         renderer.setColor(0.1f, 0.15f, 0.2f, 1f);
         renderer.rect(x + w * 0.05f, headY + headH * 1.55f, w * 0.9f, headH * 0.2f);
@@ -0,0 +1,118 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Static level art (background picture, street, buildings, truck...) painted once into a
+ * FrameBuffer and then drawn every frame as a single textured quad.
+ * <p>
+ * The buffer matches the window's back buffer size so the result is pixel-identical to drawing
+ * directly. Call {@link #invalidate()} when the window is resized or the scenery changes; the
+ * next {@link #draw} repaints it. If FrameBuffers aren't available the painter simply runs
+ * every frame, as before.
+ */
+public class SceneryCache implements Disposable {
+
+    /** Draws the scenery in world coordinates; does its own begin()/end() calls */
+    public interface Painter {
+        void paint(SpriteBatch batch, ShapeRenderer shapes);
+    }
+
+    private final float worldWidth;
+    private final float worldHeight;
+    private final Painter painter;
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion region;
+    private boolean dirty = true;
+    private boolean unsupported = false;
+    private int rebuilds = 0;
+
+    public SceneryCache(float worldWidth, float worldHeight, Painter painter) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.painter = painter;
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Draws the cached scenery covering the world, repainting it first if needed.
+     * Both renderers must already use the world projection.
+     */
+    public void draw(SpriteBatch batch, ShapeRenderer shapes) {
+        if (dirty && !unsupported) {
+            rebuild(batch, shapes);
+        }
+        if (region == null) {
+            painter.paint(batch, shapes); // fallback: draw directly
+            return;
+        }
+
+        batch.begin();
+        batch.disableBlending(); // opaque: no need to read back the framebuffer
+        batch.draw(region, 0f, 0f, worldWidth, worldHeight);
+        batch.enableBlending();
+        batch.end();
+    }
+
+    /** How many times the scenery has been painted into the buffer */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    private void rebuild(SpriteBatch batch, ShapeRenderer shapes) {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (width <= 0 || height <= 0) return; // minimized: try again later
+
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            disposeBuffer();
+            try {
+                frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            } catch (RuntimeException e) {
+                Gdx.app.error("SceneryCache", "FrameBuffer not available, drawing scenery every frame", e);
+                unsupported = true;
+                dirty = false;
+                return;
+            }
+            Texture texture = frameBuffer.getColorBufferTexture();
+            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest); // 1:1 texels
+            region = new TextureRegion(texture);
+            region.flip(false, true); // FBO textures are stored bottom-up
+        }
+
+        // Renderers keep the world projection; only the target changes
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        painter.paint(batch, shapes);
+        frameBuffer.end();
+
+        dirty = false;
+        rebuilds++;
+    }
+
+    private void disposeBuffer() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+            region = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeBuffer();
+    }
+}
@@ -0,0 +1,109 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.function.Supplier;
+
+/**
+ * Decides what happens to the screens the game leaves. A screen got through {@link #cached}
+ * (the menu) is built once and lives until the game exits; leaving it only hides it, and its
+ * {@code show()} resets it for the next visit. Any other screen is disposed at the end of the
+ * frame it was left in, whether the switch came from a fade or a direct {@code setScreen}, so
+ * a level's references to textures, fonts and music are always given back. The exception is a
+ * screen someone {@link #hold}s to come back to, like a level waiting on game over's retry.
+ */
+public class ScreenManager implements Disposable {
+
+    private final ObjectMap<Class<?>, Screen> cached = new ObjectMap<>();
+    private final Array<Screen> retired = new Array<>();
+    private final Array<Screen> held = new Array<>();
+    private Screen current;
+
+    /** Transient screens disposed so far */
+    public int disposed = 0;
+
+    /** The screen of this type, made by {@code factory} the first time only */
+    public <T extends Screen> T cached(Class<T> type, Supplier<T> factory) {
+        Screen screen = cached.get(type);
+        if (screen == null) {
+            screen = factory.get();
+            cached.put(type, screen);
+        }
+        return type.cast(screen);
+    }
+
+    public boolean isCached(Screen screen) {
+        return screen != null && cached.get(screen.getClass()) == screen;
+    }
+
+    /**
+     * Keeps a screen alive after it is left, until it is shown again (then it is managed as
+     * usual) or {@link #drop}ped.
+     */
+    public void hold(Screen screen) {
+        if (!held.contains(screen, true)) held.add(screen);
+    }
+
+    /** Gives up a held screen that won't be shown again; it is disposed at the end of the frame */
+    public void drop(Screen screen) {
+        if (held.removeValue(screen, true) && screen != current) {
+            retired.add(screen);
+        }
+    }
+
+    /**
+     * Called by the game right after it switched from {@code previous} to {@code next}.
+     * Transient screens are disposed by the next {@link #disposeRetired}, not here: the
+     * switch may come from inside the old screen's own render().
+     */
+    public void retire(Screen previous, Screen next) {
+        current = next;
+        held.removeValue(next, true); // back on screen
+        if (previous == null || previous == next || isCached(previous) || held.contains(previous, true)
+            || retired.contains(previous, true)) return;
+        retired.add(previous);
+    }
+
+    /**
+     * Disposes the screens left this frame; the game calls it once the frame is drawn.
+     *
+     * @return how many were disposed
+     */
+    public int disposeRetired() {
+        int count = 0;
+        // Not a for-each: disposing a screen can drop one it held, which lands in retired
+        while (retired.size > 0) {
+            retired.removeIndex(0).dispose();
+            count++;
+        }
+        disposed += count;
+        return count;
+    }
+
+    /** Screens holding resources right now: cached and held ones, the current one, and any just left */
+    public int getLiveCount() {
+        int live = cached.size + held.size + retired.size;
+        if (current != null && !isCached(current)) live++;
+        return live;
+    }
+
+    @Override
+    public void dispose() {
+        disposeRetired();
+        for (Screen screen : held) {
+            screen.dispose();
+        }
+        held.clear();
+        if (current != null && !isCached(current)) {
+            current.dispose();
+        }
+        for (Screen screen : cached.values()) {
+            screen.dispose();
+        }
+        cached.clear();
+        current = null;
+    }
+}
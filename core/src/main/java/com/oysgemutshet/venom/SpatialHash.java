@@ -0,0 +1,133 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid broadphase. Items are inserted by index with their bounding box and
+ * queries return the indices of items whose cells overlap the query box (candidates,
+ * not guaranteed hits - do the exact overlap test afterwards).
+ * <p>
+ * Meant to be cleared and refilled every tick. All storage is primitive arrays that
+ * only grow, so after warm-up neither inserting nor querying allocates.
+ */
+public class SpatialHash {
+
+    /** Fits a 26x60 officer in 1-2 cells and a 40x80 Venom in 2-4 */
+    public static final float DEFAULT_CELL_SIZE = 64f;
+
+    private final float invCellSize;
+    private final int bucketMask;
+    private final int[] bucketHeads;
+
+    // One entry per (item, cell) pair, chained per bucket
+    private int[] entryNext = new int[64];
+    private int[] entryItem = new int[64];
+    private int[] entryCellX = new int[64];
+    private int[] entryCellY = new int[64];
+    private int entryCount = 0;
+
+    // Per-item query stamp so an item spanning several cells is reported once
+    private int[] itemStamp = new int[64];
+    private int stamp = 0;
+
+    public SpatialHash() {
+        this(DEFAULT_CELL_SIZE, 1024);
+    }
+
+    /**
+     * @param cellSize    world units per grid cell
+     * @param bucketCount hash table size, rounded up to a power of two
+     */
+    public SpatialHash(float cellSize, int bucketCount) {
+        this.invCellSize = 1f / cellSize;
+        int buckets = Integer.highestOneBit(Math.max(16, bucketCount - 1)) << 1;
+        this.bucketMask = buckets - 1;
+        this.bucketHeads = new int[buckets];
+        Arrays.fill(bucketHeads, -1);
+    }
+
+    public void clear() {
+        Arrays.fill(bucketHeads, -1);
+        entryCount = 0;
+    }
+
+    public void insert(int item, Rectangle r) {
+        insert(item, r.x, r.y, r.x + r.width, r.y + r.height);
+    }
+
+    public void insert(int item, float minX, float minY, float maxX, float maxY) {
+        if (item >= itemStamp.length) {
+            itemStamp = Arrays.copyOf(itemStamp, Math.max(item + 1, itemStamp.length * 2));
+        }
+
+        int cx0 = cell(minX), cy0 = cell(minY);
+        int cx1 = cell(maxX), cy1 = cell(maxY);
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                addEntry(item, cx, cy);
+            }
+        }
+    }
+
+    /**
+     * Adds every item whose cells overlap the box to {@code out} (each item once).
+     * {@code out} is not cleared first.
+     */
+    public void query(Rectangle r, IntArray out) {
+        query(r.x, r.y, r.x + r.width, r.y + r.height, out);
+    }
+
+    public void query(float minX, float minY, float maxX, float maxY, IntArray out) {
+        if (++stamp == 0) { // wrapped around: forget old stamps
+            Arrays.fill(itemStamp, 0);
+            stamp = 1;
+        }
+
+        int cx0 = cell(minX), cy0 = cell(minY);
+        int cx1 = cell(maxX), cy1 = cell(maxY);
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int e = bucketHeads[bucket(cx, cy)]; e != -1; e = entryNext[e]) {
+                    if (entryCellX[e] != cx || entryCellY[e] != cy) continue; // other cell, same bucket
+                    int item = entryItem[e];
+                    if (itemStamp[item] == stamp) continue;
+                    itemStamp[item] = stamp;
+                    out.add(item);
+                }
+            }
+        }
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    private void addEntry(int item, int cx, int cy) {
+        if (entryCount == entryItem.length) {
+            int size = entryCount * 2;
+            entryNext = Arrays.copyOf(entryNext, size);
+            entryItem = Arrays.copyOf(entryItem, size);
+            entryCellX = Arrays.copyOf(entryCellX, size);
+            entryCellY = Arrays.copyOf(entryCellY, size);
+        }
+
+        int b = bucket(cx, cy);
+        int e = entryCount++;
+        entryItem[e] = item;
+        entryCellX[e] = cx;
+        entryCellY[e] = cy;
+        entryNext[e] = bucketHeads[b];
+        bucketHeads[b] = e;
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private int bucket(int cx, int cy) {
+        return (cx * 73856093 ^ cy * 19349663) & bucketMask;
+    }
+}
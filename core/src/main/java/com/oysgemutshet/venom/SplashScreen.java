@@ -25,8 +25,8 @@ public class SplashScreen extends ScreenAdapter {
         this.camera = new OrthographicCamera();
         this.camera.setToOrtho(false, 1280, 720);
 
-        // TODO: adjust path to your actual image
-        this.logoTexture = new Texture(Gdx.files.internal("splash/112-gaming.png"));
+        // Needed on the first frame, so not worth queueing behind the preload
+        this.logoTexture = game.getAssets().acquire(AssetService.SPLASH_LOGO);
     }
 
     @Override
@@ -81,15 +81,16 @@ public class SplashScreen extends ScreenAdapter {
             batch.end();
         }
 
-        // After black + fade-in + hold, go to IntroScreen with global fade
+        // After black + fade-in + hold, go to IntroScreen with global fade; on a slow disk the
+        // logo stays up until the menu's assets are in
         float totalDuration = BLACK_BEFORE + FADE_IN_DURATION + HOLD_DURATION;
-        if (time > totalDuration) {
-            game.setScreenWithFade(new IntroScreen(game));
+        if (time > totalDuration && game.getAssets().isFinished()) {
+            game.showMenu();
         }
     }
 
     @Override
     public void dispose() {
-        logoTexture.dispose();
+        game.getAssets().release(AssetService.SPLASH_LOGO);
     }
 }
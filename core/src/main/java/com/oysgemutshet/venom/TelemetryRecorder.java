@@ -0,0 +1,287 @@
+package com.oysgemutshet.venom;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Opt-in session telemetry: one sample per frame (timings, entity counts, heap) plus screen
+ * changes, written as CSV to rolling files by a background thread.
+ * <p>
+ * The render thread only writes primitives into a fixed-size single-producer / single-consumer
+ * ring and never waits: when the ring is full the sample is dropped and counted. The writer
+ * thread drains it a few times a second. Files roll over at {@code maxFileBytes} and only the
+ * newest {@code maxFiles} are kept, so disk usage is capped at roughly their product.
+ * <p>
+ * File format (one row per line):
+ * <pre>
+ * S,&lt;t_ms&gt;,&lt;screen&gt;                         screen became active
+ * F,&lt;t_ms&gt;,&lt;frame_ms&gt;,&lt;cpu_ms&gt;,&lt;update_ms&gt;,&lt;officers&gt;,&lt;bullets&gt;,&lt;cars&gt;,&lt;blobs&gt;,&lt;heap_kb&gt;,&lt;native_kb&gt;
+ * D,&lt;t_ms&gt;,&lt;count&gt;                          samples dropped since the last D row
+ * </pre>
+ * Entity counts are -1 on screens that don't report them.
+ */
+public class TelemetryRecorder {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;        // ~1 minute at 60 FPS
+    public static final long DEFAULT_MAX_FILE_BYTES = 2L << 20;   // 2 MB
+    public static final int DEFAULT_MAX_FILES = 10;
+
+    private static final int KIND_FRAME = 0;
+    private static final int KIND_SCREEN = 1;
+    private static final long WRITER_PERIOD_NANOS = 250_000_000L;
+
+    private final File directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final String sessionName;
+
+    // Ring buffer, one column per field. head = next slot to read, tail = next slot to write.
+    private final int mask;
+    private final int[] kind;
+    private final long[] time;
+    private final float[] frameMs, cpuMs, updateMs;
+    private final int[] officers, bullets, cars, blobs;
+    private final long[] heap, nativeHeap;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();  // total since start
+
+    // Screen names by id; only grows, written rarely (on screen change)
+    private final CopyOnWriteArrayList<String> screenNames = new CopyOnWriteArrayList<>();
+
+    private final long startNanos = System.nanoTime();
+    private Thread writerThread;
+    private volatile boolean running = false;
+
+    // Writer thread state
+    private Writer out;
+    private long fileBytes;
+    private int fileIndex = 0;
+    private int currentScreen = -1;
+    private long droppedWritten = 0L;
+    private final StringBuilder line = new StringBuilder(128);
+
+    public TelemetryRecorder(File directory) {
+        this(directory, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILES);
+    }
+
+    /**
+     * @param queueCapacity samples buffered between writer passes, rounded up to a power of two
+     * @param maxFileBytes  size at which a new file is started
+     * @param maxFiles      files kept in the directory; older ones are deleted
+     */
+    public TelemetryRecorder(File directory, int queueCapacity, long maxFileBytes, int maxFiles) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.sessionName = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+
+        int capacity = Integer.highestOneBit(Math.max(16, queueCapacity - 1)) << 1;
+        mask = capacity - 1;
+        kind = new int[capacity];
+        time = new long[capacity];
+        frameMs = new float[capacity];
+        cpuMs = new float[capacity];
+        updateMs = new float[capacity];
+        officers = new int[capacity];
+        bullets = new int[capacity];
+        cars = new int[capacity];
+        blobs = new int[capacity];
+        heap = new long[capacity];
+        nativeHeap = new long[capacity];
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        writerThread = new Thread(this::writerLoop, "telemetry-writer");
+        writerThread.setDaemon(true); // never keeps the game alive
+        writerThread.start();
+    }
+
+    /** Stops the writer after it has written everything queued so far. */
+    public void stop() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---- Render thread ----
+
+    public void recordScreen(String name) {
+        int id = screenNames.indexOf(name);
+        if (id < 0) {
+            screenNames.add(name);
+            id = screenNames.size() - 1;
+        }
+        int slot = claim();
+        if (slot < 0) return;
+        kind[slot] = KIND_SCREEN;
+        time[slot] = System.nanoTime();
+        officers[slot] = id;
+        publish();
+    }
+
+    public void recordFrame(float frame, float cpu, float update, int officerCount, int bulletCount,
+                            int carCount, int blobCount, long javaHeapBytes, long nativeHeapBytes) {
+        int slot = claim();
+        if (slot < 0) return;
+        kind[slot] = KIND_FRAME;
+        time[slot] = System.nanoTime();
+        frameMs[slot] = frame;
+        cpuMs[slot] = cpu;
+        updateMs[slot] = update;
+        officers[slot] = officerCount;
+        bullets[slot] = bulletCount;
+        cars[slot] = carCount;
+        blobs[slot] = blobCount;
+        heap[slot] = javaHeapBytes;
+        nativeHeap[slot] = nativeHeapBytes;
+        publish();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /** Slot to fill, or -1 if the ring is full (sample dropped) */
+    private int claim() {
+        if (!running) return -1;
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+        return (int) (t & mask);
+    }
+
+    private void publish() {
+        tail.lazySet(tail.get() + 1); // ordered store: fields above are visible before the new tail
+    }
+
+    // ---- Writer thread ----
+
+    private void writerLoop() {
+        try {
+            directory.mkdirs();
+            openNextFile();
+            while (running) {
+                LockSupport.parkNanos(WRITER_PERIOD_NANOS);
+                drain();
+            }
+            drain();
+        } catch (IOException e) {
+            System.err.println("Telemetry disabled, couldn't write to " + directory + ": " + e);
+            running = false;
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void drain() throws IOException {
+        long h = head.get();
+        long t = tail.get();
+        long droppedTotal = dropped.get();
+        if (droppedTotal > droppedWritten) {
+            line.setLength(0);
+            line.append("D,").append(millis(System.nanoTime())).append(',').append(droppedTotal - droppedWritten);
+            droppedWritten = droppedTotal;
+            writeLine();
+        }
+
+        for (; h < t; h++) {
+            int i = (int) (h & mask);
+            line.setLength(0);
+            if (kind[i] == KIND_SCREEN) {
+                currentScreen = officers[i];
+                appendScreenRow(time[i]);
+            } else {
+                line.append("F,").append(millis(time[i]))
+                    .append(',').append(frameMs[i])
+                    .append(',').append(cpuMs[i])
+                    .append(',').append(updateMs[i])
+                    .append(',').append(officers[i])
+                    .append(',').append(bullets[i])
+                    .append(',').append(cars[i])
+                    .append(',').append(blobs[i])
+                    .append(',').append(heap[i] >> 10)
+                    .append(',').append(nativeHeap[i] >> 10);
+            }
+            writeLine();
+            head.lazySet(h + 1); // slot may be reused now
+        }
+        out.flush();
+    }
+
+    private void appendScreenRow(long nanos) {
+        line.append("S,").append(millis(nanos)).append(',').append(screenNames.get(currentScreen));
+    }
+
+    private void writeLine() throws IOException {
+        line.append('\n');
+        out.append(line);
+        fileBytes += line.length(); // ASCII
+        if (fileBytes >= maxFileBytes) {
+            openNextFile();
+        }
+    }
+
+    private void openNextFile() throws IOException {
+        closeQuietly();
+        File file = new File(directory, "telemetry-" + sessionName + "-" + String.format("%03d", fileIndex++) + ".csv");
+        out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.US_ASCII));
+        fileBytes = 0L;
+        deleteOldFiles();
+
+        // Every file starts with the active screen so it can be read on its own
+        if (currentScreen >= 0) {
+            line.setLength(0);
+            appendScreenRow(System.nanoTime());
+            line.append('\n');
+            out.append(line);
+            fileBytes += line.length();
+        }
+    }
+
+    private void deleteOldFiles() {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith("telemetry-") && name.endsWith(".csv"));
+        if (files == null || files.length <= maxFiles) return;
+        Arrays.sort(files); // names sort oldest first
+        for (int i = 0; i < files.length - maxFiles; i++) {
+            files[i].delete();
+        }
+    }
+
+    private long millis(long nanos) {
+        return (nanos - startNanos) / 1_000_000L;
+    }
+
+    private void closeQuietly() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+}
@@ -1,8 +1,7 @@
 // core/src/main/java/com/oysgemutshet/venom/TestLevel.java
 package com.oysgemutshet.venom;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -12,24 +11,34 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 
 public class TestLevel extends LevelController {
 
+    // Same as Level 1 minus the music
+    public static final AssetDescriptor<?>[] ASSETS = {
+        AssetService.RUSSO_ONE_FONT,
+        AssetService.CITY_NIGHT,
+        AssetService.SHAPES
+    };
+
     private static final float GROUND_TOP_Y = 80f;
     private static final float GROUND_HEIGHT = 30f;
+    private static final float VENOM_START_X = 100f;
 
     // Core
     private final VengeanceOfVenomGame game;
-    private final OrthographicCamera camera;
-    private final ShapeRenderer shapes;
     private final BitmapFont font;
-    private final GlyphLayout layout;
+    private final CachedText titleText;
+    private final CachedText helpText;
+    private final CachedText escHelpText;
     private final Texture cityBackground;
 
     // Player & world
     private final VenomPlayer venom;
     private final Array<Rectangle> platforms = new Array<>();
+    private final PlatformIndex platformIndex;
 
     // Named platforms
     private Rectangle groundPlatform;
@@ -39,15 +48,13 @@ public class TestLevel extends LevelController {
 
     public TestLevel(VengeanceOfVenomGame game) {
         this.game = game;
-        this.camera = new OrthographicCamera();
-        this.camera.setToOrtho(false, 1280, 720);
-
-        this.shapes = new ShapeRenderer();
-        this.cityBackground = new Texture(Gdx.files.internal("backgrounds/city_night.png"));
+        this.cityBackground = game.getAssets().acquire(AssetService.CITY_NIGHT);
 
-        // Use your TTF font
-        this.font = game.getDefaultFont(); // Or create new font like in LevelOne
-        this.layout = new GlyphLayout();
+        this.font = game.getFonts().acquire(FontService.RUSSO_ONE);
+        float helpScale = FontService.scaleFor(22f);
+        this.titleText = new CachedText(font, "TEST LEVEL", FontService.scaleFor(42f), Align.center);
+        this.helpText = new CachedText(font, "Move: A/D or Arrows   Jump: SPACE or UP  G: Tongue", helpScale, Align.center);
+        this.escHelpText = new CachedText(font, "ESC: Back to Main Menu", helpScale, Align.center);
 
         // Ground
         groundPlatform = new Rectangle(
@@ -57,22 +64,21 @@ public class TestLevel extends LevelController {
             GROUND_HEIGHT
         );
         platforms.add(groundPlatform);
+        platformIndex = new PlatformIndex(platforms);
 
         // Venom starts on ground
-        float venomStartX = 100f;
-        float venomStartY = GROUND_TOP_Y;
-        this.venom = new VenomPlayer(venomStartX, venomStartY);
+        this.venom = new VenomPlayer(VENOM_START_X, GROUND_TOP_Y);
 
         this.playerHealth = 1.0f;
     }
 
     @Override
-    public void update(float delta) {
-        venom.update(delta, platforms);
+    public void update(float delta, InputSnapshot input) {
+        venom.update(delta, input, platformIndex);
 
         // Simple test level logic - just check for ESC to go back
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreenWithFade(new IntroScreen(game));
+        if (input.isBackPressed()) {
+            game.showMenu();
         }
 
         // Simple health drain for testing (remove this in final version)
@@ -84,23 +90,33 @@ public class TestLevel extends LevelController {
     }
 
     @Override
-    public void render(OrthographicCamera camera, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, GlyphLayout layout) {
+    public void reset(long seed) {
+        venom.reset(VENOM_START_X, GROUND_TOP_Y);
+        playerHealth = 1.0f;
+    }
+
+    @Override
+    public void render(OrthographicCamera camera, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, GlyphLayout layout, float alpha) {
         float vw = camera.viewportWidth;
         float vh = camera.viewportHeight;
+        FrameProfiler profiler = game.getProfiler();
 
         // Draw background
+        profiler.begin(FrameProfiler.Phase.BACKGROUND);
         batch.begin();
         batch.draw(cityBackground, 0, 0, vw, vh);
         batch.end();
+        profiler.end(FrameProfiler.Phase.BACKGROUND);
 
         // Draw world
+        profiler.begin(FrameProfiler.Phase.WORLD_SHAPES);
         shapes.begin(ShapeRenderer.ShapeType.Filled);
 
         // Ground
         renderGround(shapes, groundPlatform);
 
         // Venom
-        venom.render(shapes);
+        venom.render(shapes, alpha);
 
         // Health bar
         float barWidth = 200f;
@@ -117,27 +133,18 @@ public class TestLevel extends LevelController {
         shapes.rect(barX, barY, barWidth * playerHealth, barHeight);
 
         shapes.end();
+        profiler.end(FrameProfiler.Phase.WORLD_SHAPES);
 
         // Draw UI text
+        profiler.begin(FrameProfiler.Phase.TEXT);
         batch.begin();
 
-        // Test level title
-        font.getData().setScale(1.5f);
-        String title = "TEST LEVEL";
-        layout.setText(font, title);
-        font.draw(batch, layout, (vw - layout.width) / 2f, vh - 50f);
-
-        // Instructions
-        font.getData().setScale(0.8f);
-        String help = "Move: A/D or Arrows   Jump: SPACE or UP  G: Tongue";
-        layout.setText(font, help);
-        font.draw(batch, layout, (vw - layout.width) / 2f, 60f);
-
-        String escHelp = "ESC: Back to Main Menu";
-        layout.setText(font, escHelp);
-        font.draw(batch, layout, (vw - layout.width) / 2f, 30f);
+        titleText.setPosition(vw / 2f, vh - 50f).draw(batch);
+        helpText.setPosition(vw / 2f, 60f).draw(batch);
+        escHelpText.setPosition(vw / 2f, 30f).draw(batch);
 
         batch.end();
+        profiler.end(FrameProfiler.Phase.TEXT);
     }
 
     // Draw the main ground as a street
@@ -158,9 +165,8 @@ public class TestLevel extends LevelController {
 
     @Override
     public void dispose() {
-        shapes.dispose();
-        cityBackground.dispose();
-        // Don't dispose font here since it's shared or created by LevelScreen
+        game.getAssets().release(AssetService.CITY_NIGHT);
+        game.getFonts().release(font);
     }
 
     @Override
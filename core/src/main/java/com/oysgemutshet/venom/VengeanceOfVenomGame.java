@@ -2,14 +2,19 @@ package com.oysgemutshet.venom;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator; // Add this import
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.function.Supplier;
 
 public class VengeanceOfVenomGame extends Game {
 
@@ -22,12 +27,65 @@ public class VengeanceOfVenomGame extends Game {
     private float fadeAlpha = 0f;
     private static final float FADE_DURATION = 0.5f; // seconds for fade-out and fade-in
 
-    private Screen pendingScreen = null;
+    // Built at full black, once its assets are in
+    private Supplier<? extends Screen> pendingScreen = null;
+    private Array<AssetDescriptor<?>> pendingAssets = null;
     private Texture fadeTexture;
 
+    // Transition timing, logged when the fade-in ends
+    private static final float TRANSITION_FRAME_BUDGET_MILLIS = 1000f / 60f;
+    private int transitionFrames;
+    private long transitionWorstNanos;
+    private long blackSince;   // when the fade-out reached black, 0 before
+    private long blackNanos;   // time held at black waiting for assets
+    private String transitionTarget;
+
+    // Debug HUD, F3 toggles it
+    private FrameProfiler profiler;
+
+    // Baked character sprites (see CharacterAtlas) and the circle renderer for projectiles;
+    // F4 switches back to plain ShapeRenderer drawing for debugging
+    private CharacterAtlas characterAtlas;
+    private CircleBatch circleBatch;
+    private boolean circleBatchFailed = false;
+    private boolean shapesOnly = false;
+
+    // Textures, music and baked fonts, loaded in the background from create() on
+    private AssetService assets;
+
+    // Shared distance field fonts; the batch always runs their shader
+    private FontService fonts;
+
+    // Keeps the menu alive between visits and disposes every other screen once it's left
+    private final ScreenManager screens = new ScreenManager();
+
+    // Command buffer the levels submit world drawing to; reused every frame
+    private final DrawList drawList = new DrawList(256);
+
+    // Startup timing: create() until the menu first draws
+    private long createNanos;
+    private boolean menuFrameLogged = false;
+
+    // Opt-in session telemetry (set by the launcher before create), may be null
+    private TelemetryRecorder telemetry;
+
+    // Which GL the desktop launcher chose (angle, gl20, gl32), logged with the GL version; may be null
+    private String glBackend;
+
     @Override
     public void create() {
+        createNanos = TimeUtils.nanoTime();
+        GLVersion glVersion = Gdx.graphics.getGLVersion();
+        if (glVersion != null) {
+            Gdx.app.log("Graphics", glVersion.getType() + " " + glVersion.getMajorVersion() + "." + glVersion.getMinorVersion()
+                + " on " + glVersion.getRendererString() + (glBackend != null ? ", " + glBackend + " backend" : "")
+                + (Gdx.gl30 != null ? " (GL3 paths enabled)" : ""));
+        }
+
         batch = new SpriteBatch();
+        assets = new AssetService();
+        fonts = new FontService(assets);
+        batch.setShader(fonts.getShader());
 
         // 1x1 white texture for fade overlay
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
@@ -36,33 +94,231 @@ public class VengeanceOfVenomGame extends Game {
         fadeTexture = new Texture(pixmap);
         pixmap.dispose();
 
+        profiler = new FrameProfiler(batch);
+        if (telemetry != null) {
+            telemetry.start();
+            profiler.setTelemetry(telemetry);
+            Gdx.app.log("Telemetry", "Recording to " + telemetry.getDirectory().getAbsolutePath());
+        }
+
         // Start on splash screen (with logo) normally
-        super.setScreen(new SplashScreen(this));
+        setScreen(new SplashScreen(this));
+
+        // Everything the menu and Level 1 need; loads a few ms per frame behind the splash.
+        // Queued after the splash took its logo, which would otherwise wait for all of it
+        assets.preload(AssetService.RUSSO_ONE_FONT, AssetService.THEME_MUSIC, AssetService.CITY_NIGHT, AssetService.SHAPES);
+
+    }
+
+    /**
+     * Turns on session telemetry. Must be called before the application starts.
+     */
+    public void setTelemetry(TelemetryRecorder telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    /** Names the GL backend the launcher picked, for the startup log. Call before the application starts. */
+    public void setGLBackend(String glBackend) {
+        this.glBackend = glBackend;
+    }
 
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = getScreen();
+        super.setScreen(screen);
+        screens.retire(previous, screen);
+        if (telemetry != null && screen != null) {
+            telemetry.recordScreen(screen.getClass().getSimpleName());
+        }
     }
 
     /**
      * Call this instead of setScreen(...) to get a smooth fade transition.
      */
     public void setScreenWithFade(Screen newScreen) {
+        setScreenWithFade(() -> newScreen);
+    }
+
+    /**
+     * Fades back to the menu, which is built once and kept (see ScreenManager).
+     */
+    public void showMenu() {
+        setScreenWithFade(() -> screens.cached(IntroScreen.class, () -> new IntroScreen(this)), IntroScreen.ASSETS);
+    }
+
+    /**
+     * Cuts straight from the current level to game over. The level screen is held, not
+     * disposed, so a retry can reset it in place instead of loading a new one. Ignored while a
+     * fade is running: the screen it fades to replaces the level anyway.
+     */
+    public void showGameOver() {
+        if (fadeState != FadeState.NONE) return;
+        LevelScreen level = getScreen() instanceof LevelScreen ? (LevelScreen) getScreen() : null;
+        if (level != null) {
+            screens.hold(level);
+        }
+        setScreen(new GameOverScreen(this, level));
+    }
+
+    public ScreenManager getScreens() {
+        return screens;
+    }
+
+    /**
+     * Fades to a screen that isn't built yet. The assets start loading now, a few milliseconds
+     * per frame while the fade-out runs; the screen stays black until they are all in, and
+     * only then is {@code factory} called, so its constructor finds everything loaded.
+     *
+     * @param assets what the new screen acquires, e.g. {@link LevelOne#ASSETS}
+     */
+    public void setScreenWithFade(Supplier<? extends Screen> factory, AssetDescriptor<?>... assets) {
         if (fadeState != FadeState.NONE) return; // already transitioning, ignore
-        pendingScreen = newScreen;
+        pendingScreen = factory;
+        pendingAssets = this.assets.queue(assets);
         fadeState = FadeState.FADING_OUT;
         fadeAlpha = 0f;
+
+        transitionFrames = 0;
+        transitionWorstNanos = 0L;
+        blackSince = 0L;
+        blackNanos = 0L;
+        transitionTarget = null;
     }
 
     @Override
     public void render() {
+        long frameStart = TimeUtils.nanoTime();
+        boolean inTransition = fadeState != FadeState.NONE;
         float delta = Gdx.graphics.getDeltaTime();
 
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            profiler.toggle();
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            shapesOnly = !shapesOnly;
+        }
+        profiler.beginFrame();
+
+        if (!assets.isFinished()) {
+            profiler.begin(FrameProfiler.Phase.LOADING);
+            assets.update(AssetService.FRAME_BUDGET_MILLIS);
+            profiler.end(FrameProfiler.Phase.LOADING);
+        }
+
         // Render current screen as usual
         super.render();
 
         // Handle fade transition on top
         if (fadeState != FadeState.NONE) {
+            profiler.begin(FrameProfiler.Phase.FADE);
             updateFade(delta);
             drawFadeOverlay();
+            profiler.end(FrameProfiler.Phase.FADE);
+        }
+
+        // Screens left this frame; none of them is running any more
+        if (screens.disposeRetired() > 0) {
+            logLiveResources();
+        }
+
+        if (profiler.isActive()) {
+            profiler.count("screens", screens.getLiveCount());
+            profiler.count("textures", Texture.getNumManagedTextures());
+            profiler.count("shaders", ShaderProgram.getNumManagedShaderPrograms());
+            profiler.count("assets", assets.getUsedCount());
+            profiler.count("vram KB", (int) (assets.getVramBytes() / 1024));
+        }
+
+        // Profiler HUD above everything, including the fade
+        profiler.endFrame(delta);
+        profiler.render();
+
+        if (inTransition || fadeState != FadeState.NONE) {
+            recordTransitionFrame(TimeUtils.timeSinceNanos(frameStart));
+        }
+    }
+
+    // What is still allocated after a screen was disposed; should stay flat however often
+    // levels are restarted
+    private void logLiveResources() {
+        Gdx.app.log("Resources", "Live: " + screens.getLiveCount() + " screens (" + screens.disposed + " disposed so far), "
+            + Texture.getNumManagedTextures() + " textures, " + ShaderProgram.getNumManagedShaderPrograms() + " shaders, "
+            + assets.getUsedCount() + " assets in use + " + assets.getIdleCount() + " idle, ~"
+            + assets.getVramBytes() / 1024 + " KB VRAM");
+    }
+
+    // Logs the worst frame of each transition, so hitches in screen switches show up
+    private void recordTransitionFrame(long nanos) {
+        transitionFrames++;
+        transitionWorstNanos = Math.max(transitionWorstNanos, nanos);
+        if (fadeState != FadeState.NONE) return;
+
+        float worstMillis = transitionWorstNanos / 1_000_000f;
+        String message = "To " + transitionTarget + ": " + transitionFrames + " frames, worst " + worstMillis
+            + " ms, " + TimeUtils.nanosToMillis(blackNanos) + " ms at black waiting for assets";
+        if (worstMillis > TRANSITION_FRAME_BUDGET_MILLIS) {
+            Gdx.app.error("Transition", message + " (over the " + TRANSITION_FRAME_BUDGET_MILLIS + " ms budget)");
+        } else {
+            Gdx.app.log("Transition", message);
+        }
+    }
+
+    /**
+     * Called by the menu after each frame it draws; logs the time to the first one.
+     *
+     * @param menuBuildNanos how long constructing the menu screen took
+     */
+    public void menuFrameDrawn(long menuBuildNanos) {
+        if (menuFrameLogged) return;
+        menuFrameLogged = true;
+        Gdx.app.log("Startup", "First menu frame " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(createNanos))
+            + " ms after create (menu built in " + TimeUtils.nanosToMillis(menuBuildNanos) + " ms)");
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Character sprites baked for the current window scale, or null when characters should be
+     * drawn procedurally (F4 debug toggle, or no FrameBuffer support).
+     */
+    public CharacterAtlas getCharacterAtlas() {
+        if (shapesOnly) return null;
+        if (characterAtlas == null) {
+            characterAtlas = new CharacterAtlas();
         }
+        float pixelsPerUnit = Gdx.graphics.getBackBufferWidth() / LevelOneSimulation.WORLD_WIDTH;
+        return characterAtlas.ensureBaked(pixelsPerUnit) ? characterAtlas : null;
+    }
+
+    public AssetService getAssets() {
+        return assets;
+    }
+
+    public FontService getFonts() {
+        return fonts;
+    }
+
+    public DrawList getDrawList() {
+        return drawList;
+    }
+
+    /**
+     * Shared renderer for bullets and blobs, or null when they should go through ShapeRenderer
+     * (F4 debug toggle, or the shader didn't compile).
+     */
+    public CircleBatch getCircleBatch() {
+        if (shapesOnly || circleBatchFailed) return null;
+        if (circleBatch == null) {
+            try {
+                circleBatch = new CircleBatch(1024);
+            } catch (RuntimeException e) {
+                Gdx.app.error("CircleBatch", "Falling back to ShapeRenderer circles", e);
+                circleBatchFailed = true;
+            }
+        }
+        return circleBatch;
     }
 
     private void updateFade(float delta) {
@@ -71,11 +327,25 @@ public class VengeanceOfVenomGame extends Game {
                 fadeAlpha += delta / FADE_DURATION;
                 if (fadeAlpha >= 1f) {
                     fadeAlpha = 1f;
-                    // Fully black now: switch screens
+                    // Fully black now: switch screens, once the new one's assets are loaded
+                    if (blackSince == 0L) {
+                        blackSince = TimeUtils.nanoTime();
+                    }
+                    if (!assets.isLoaded(pendingAssets)) {
+                        break; // hold at black; render() keeps loading
+                    }
+                    blackNanos = TimeUtils.timeSinceNanos(blackSince);
                     if (pendingScreen != null) {
-                        super.setScreen(pendingScreen);
+                        Screen next = pendingScreen.get();
+                        transitionTarget = next.getClass().getSimpleName();
+                        setScreen(next); // the old one is disposed at the end of this frame, unless cached
                         pendingScreen = null;
                     }
+                    // The new screen holds its own references now
+                    for (AssetDescriptor<?> asset : pendingAssets) {
+                        assets.release(asset);
+                    }
+                    pendingAssets = null;
                     // Start fading in
                     fadeState = FadeState.FADING_IN;
                 }
@@ -108,27 +378,24 @@ public class VengeanceOfVenomGame extends Game {
         batch.end();
     }
 
-    // In VengeanceOfVenomGame.java
-    private BitmapFont defaultFont;
-
-    public BitmapFont getDefaultFont() {
-        if (defaultFont == null) {
-            // Create the font here once
-            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/RussoOne-Regular.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
-            param.size = 28;
-            param.color = Color.WHITE;
-            defaultFont = generator.generateFont(param);
-            generator.dispose();
-        }
-        return defaultFont;
-    }
-
     @Override
     public void dispose() {
+        if (getScreen() != null) {
+            getScreen().hide();
+        }
+        screens.dispose(); // before the fonts and assets the screens hold
         batch.dispose();
-        if (defaultFont != null) {
-            defaultFont.dispose();
+        profiler.dispose();
+        if (characterAtlas != null) {
+            characterAtlas.dispose();
+        }
+        if (circleBatch != null) {
+            circleBatch.dispose();
+        }
+        if (telemetry != null) {
+            telemetry.stop();
         }
+        fonts.dispose();
+        assets.dispose();
     }
 }
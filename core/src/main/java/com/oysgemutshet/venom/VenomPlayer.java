@@ -1,16 +1,17 @@
 package com.oysgemutshet.venom;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 public class VenomPlayer {
 
+    public static final float WIDTH = 40f;
+    public static final float HEIGHT = 80f;
+
     private static final float MOVE_SPEED = 220f;
     private static final float JUMP_FORCE = 480f;
     private static final float GRAVITY = -1000f;
@@ -18,9 +19,12 @@ public class VenomPlayer {
     private static final float WALK_ANIM_INTENSITY = 0.25f;
     private static final float TONGUE_MAX_LENGTH   = 90f;   // how far it reaches
     private static final float TONGUE_DURATION     = 0.45f; // seconds from start to fully retracted
+    private static final Color TONGUE_COLOR = new Color(0.8f, 0.15f, 0.15f, 1f); // red tongue
+    private static final float SKIN = 0.01f; // tolerance when deciding which side of a face we started on
 
 
     private final Rectangle bounds;
+    private float prevX, prevY; // position at the start of the last tick (for render interpolation)
     private final Vector2 velocity = new Vector2();
     private boolean grounded = false;
     private float stateTime = 0f;
@@ -29,32 +33,48 @@ public class VenomPlayer {
     private int jumpsUsed = 0;
     private boolean tongueActive = false;
     private float  tongueTimer   = 0f;
+    private final Rectangle tongueHitbox = new Rectangle(); // reused, see getTongueHitbox()
+    private final Rectangle tongueDraw = new Rectangle();   // reused by render()
+    private final IntArray nearby = new IntArray();         // platform indices, reused by both sweeps
 
 
 
     public VenomPlayer(float x, float y) {
-        this.bounds = new Rectangle(x, y, 40, 80);
+        this.bounds = new Rectangle(x, y, WIDTH, HEIGHT);
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /** Puts Venom back at (x, y) as if just constructed: standing still, facing right */
+    public void reset(float x, float y) {
+        bounds.setPosition(x, y);
+        prevX = x;
+        prevY = y;
+        velocity.setZero();
+        grounded = false;
+        stateTime = 0f;
+        facingRight = true;
+        jumpsUsed = 0;
+        tongueActive = false;
+        tongueTimer = 0f;
     }
 
-    public void update(float delta, Array<Rectangle> platforms) {
+    public void update(float delta, InputSnapshot input, PlatformIndex platforms) {
+        prevX = bounds.x;
+        prevY = bounds.y;
         stateTime += delta;
 
-        float moveX = 0f;
-        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            moveX = -1f;
+        float moveX = input.getMoveAxis();
+        if (moveX < 0f) {
             facingRight = false;
-        } else if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            moveX = 1f;
+        } else if (moveX > 0f) {
             facingRight = true;
         }
 
         velocity.x = moveX * MOVE_SPEED;
 
         // Jump + double jump
-        boolean jumpPressed =
-            Gdx.input.isKeyJustPressed(Input.Keys.SPACE)
-                || Gdx.input.isKeyJustPressed(Input.Keys.W)
-                || Gdx.input.isKeyJustPressed(Input.Keys.UP);
+        boolean jumpPressed = input.isJumpPressed();
 
         if (jumpPressed && jumpsUsed < MAX_JUMPS) {
             velocity.y = JUMP_FORCE;
@@ -66,7 +86,7 @@ public class VenomPlayer {
         }
 
         // Tongue: press G to shoot it out
-        if (Gdx.input.isKeyJustPressed(Input.Keys.G) && !tongueActive) {
+        if (input.isTonguePressed() && !tongueActive) {
             tongueActive = true;
             tongueTimer = 0f;
         }
@@ -76,13 +96,11 @@ public class VenomPlayer {
         // Gravity
         velocity.y += GRAVITY * delta;
 
-        // Move horizontally and resolve collisions
-        bounds.x += velocity.x * delta;
-        resolveHorizontal(platforms);
-
-        // Move vertically and resolve collisions
-        bounds.y += velocity.y * delta;
-        resolveVertical(platforms);
+        // Sweep horizontally, then vertically, stopping at the first platform face in the way.
+        // Sweeping (instead of move-then-overlap) means a fast fall at a low tick rate
+        // can't skip over a thin roof.
+        sweepHorizontal(velocity.x * delta, platforms);
+        sweepVertical(velocity.y * delta, platforms);
 
         // Update tongue timer
         if (tongueActive) {
@@ -95,45 +113,175 @@ public class VenomPlayer {
 
     }
 
-    private void resolveHorizontal(Array<Rectangle> platforms) {
-        for (Rectangle p : platforms) {
-            if (bounds.overlaps(p)) {
-                if (velocity.x > 0) {
-                    bounds.x = p.x - bounds.width;
-                } else if (velocity.x < 0) {
-                    bounds.x = p.x + p.width;
+    private void sweepHorizontal(float dx, PlatformIndex platforms) {
+        if (dx == 0f) return;
+
+        float w = bounds.width;
+        float oldX = bounds.x;
+        float newX = oldX + dx;
+        float bottom = bounds.y;
+        float top = bounds.y + bounds.height;
+
+        float sweepMin = Math.min(oldX, newX);
+        float sweepMax = Math.max(oldX, newX) + w;
+
+        nearby.clear();
+        platforms.query(sweepMin, sweepMax, nearby);
+        for (int n = 0; n < nearby.size; n++) {
+            int i = nearby.get(n);
+            if (platforms.minY(i) >= top || platforms.maxY(i) <= bottom) continue; // not at our height
+
+            if (dx > 0f) {
+                // Left face of the platform, somewhere between where our right edge was and will be
+                float face = platforms.minX(i);
+                if (face >= oldX + w - SKIN && face < newX + w) {
+                    newX = face - w;
+                    velocity.x = 0;
+                }
+            } else {
+                float face = platforms.maxX(i);
+                if (face <= oldX + SKIN && face > newX) {
+                    newX = face;
+                    velocity.x = 0;
                 }
-                velocity.x = 0;
             }
         }
+
+        bounds.x = newX;
     }
 
-    private void resolveVertical(Array<Rectangle> platforms) {
+    private void sweepVertical(float dy, PlatformIndex platforms) {
         grounded = false;
 
-        for (Rectangle p : platforms) {
-            if (bounds.overlaps(p)) {
-                if (velocity.y > 0f) {
-                    // Moving up: hit your head on the underside
-                    bounds.y = p.y - bounds.height;
-                } else {
-                    // Moving down or standing: land on top
-                    bounds.y = p.y + p.height;
+        float h = bounds.height;
+        float oldY = bounds.y;
+        float newY = oldY + dy;
+        float left = bounds.x;
+        float right = bounds.x + bounds.width;
+
+        boolean hit = false;
+        nearby.clear();
+        platforms.query(left, right, nearby);
+        for (int n = 0; n < nearby.size; n++) {
+            int i = nearby.get(n);
+
+            if (dy > 0f) {
+                // Moving up: hit your head on the underside
+                float face = platforms.minY(i);
+                if (face >= oldY + h - SKIN && face < newY + h) {
+                    newY = face - h;
+                    hit = true;
+                }
+            } else {
+                // Moving down or standing: land on top
+                float face = platforms.maxY(i);
+                if (face <= oldY + SKIN && face >= newY) {
+                    newY = face;
+                    hit = true;
                     grounded = true;
                 }
-                velocity.y = 0f;
-                jumpsUsed = 0;
             }
         }
+
+        bounds.y = newY;
+        if (hit) {
+            velocity.y = 0f;
+            jumpsUsed = 0;
+        }
     }
 
+    public void render(ShapeRenderer renderer, float alpha) {
+        float x = MathUtils.lerp(prevX, bounds.x, alpha);
+        float y = MathUtils.lerp(prevY, bounds.y, alpha);
 
+        drawFigure(renderer, x, y, facingRight, walkSwing());
 
-    public void render(ShapeRenderer renderer) {
-        float x = bounds.x;
-        float y = bounds.y;
-        float w = bounds.width;
-        float h = bounds.height;
+        // Tongue goes on top; it starts at the edge of the jaw so it never covers the teeth
+        if (tongueRect(x, y, tongueDraw)) {
+            renderer.setColor(TONGUE_COLOR);
+            renderer.rect(tongueDraw.x, tongueDraw.y, tongueDraw.width, tongueDraw.height);
+        }
+    }
+
+    /** Same picture as {@link #render(ShapeRenderer, float)}, from baked atlas frames: one quad (two with the tongue) */
+    public void render(DrawList list, CharacterAtlas atlas, float alpha) {
+        float x = MathUtils.lerp(prevX, bounds.x, alpha);
+        float y = MathUtils.lerp(prevY, bounds.y, alpha);
+
+        int frame = 0; // standing still
+        if (walkSpeedFactor() >= 0.5f) {
+            // Nearest baked walk phase
+            float cycles = stateTime * WALK_ANIM_SPEED / MathUtils.PI2;
+            frame = 1 + ((int) (cycles * CharacterAtlas.WALK_FRAMES + 0.5f) % CharacterAtlas.WALK_FRAMES);
+        }
+        atlas.drawVenom(list, x, y, facingRight, frame);
+
+        if (tongueRect(x, y, tongueDraw)) {
+            atlas.drawRect(list, tongueDraw, TONGUE_COLOR);
+        }
+    }
+
+    private float walkSpeedFactor() {
+        return Math.min(1f, Math.abs(velocity.x) / MOVE_SPEED);
+    }
+
+    private float walkSwing() {
+        return MathUtils.sin(stateTime * WALK_ANIM_SPEED) * walkSwingAmplitude() * walkSpeedFactor();
+    }
+
+    /** Leg offset at the extremes of the walk cycle */
+    static float walkSwingAmplitude() {
+        return WALK_ANIM_INTENSITY * HEIGHT * 0.25f;
+    }
+
+    /** Where the tongue is drawn for Venom standing at (x, y); false if it isn't out */
+    private boolean tongueRect(float x, float y, Rectangle out) {
+        if (!tongueActive) return false;
+
+        // 0→1 over the tongue animation
+        float t = tongueTimer / TONGUE_DURATION;
+        t = MathUtils.clamp(t, 0f, 1f);
+
+        // Extend then retract (0→1→0)
+        float phase;
+        if (t <= 0.5f) {
+            phase = t * 2f;          // 0→1
+        } else {
+            phase = (1f - t) * 2f;   // 1→0
+        }
+
+        float tongueLength   = TONGUE_MAX_LENGTH * phase;
+        float tongueThickness = HEIGHT * 0.12f;
+
+        // Same jaw geometry as drawFigure
+        float centerX = x + WIDTH * 0.5f;
+        float bodyWidth = WIDTH * 0.45f;
+        float headHeight = HEIGHT * 0.35f;
+        float headY = y + HEIGHT * 0.65f;
+        float headWidth = bodyWidth * 0.9f;
+        float headXRight = centerX - headWidth * 0.5f + WIDTH * 0.05f;
+        float jawWidth  = headWidth * 0.6f;
+        float jawHeight = headHeight * 0.38f;
+        float jawY      = headY + headHeight * 0.08f;
+        float jawXRight = headXRight + headWidth * 0.45f;
+        float jawX = facingRight ? jawXRight : mirrorX(jawXRight, jawWidth, centerX);
+
+        // Base of tongue: around middle of jaw, sticking out from the mouth
+        float baseY = jawY + jawHeight * 0.6f;
+        float baseX = facingRight ? (jawX + jawWidth) : jawX - tongueLength;
+        out.set(baseX, baseY - tongueThickness / 2f, tongueLength, tongueThickness);
+        return true;
+    }
+
+    /**
+     * Draws Venom (everything except the tongue) with his feet at (x, y).
+     * Shared by the procedural path and {@link CharacterAtlas} baking.
+     *
+     * @param swing leg offset of the walk animation, see {@link #walkSwingAmplitude()}
+     */
+    static void drawFigure(ShapeRenderer renderer, float x, float y, boolean facingRight, float swing) {
+        float w = WIDTH;
+        float h = HEIGHT;
 
         float headHeight = h * 0.35f;
         float torsoHeight = h * 0.40f;
@@ -162,10 +310,6 @@ public class VenomPlayer {
         renderer.rect(headX, headY, headWidth, headHeight);
 
         // ===== LEGS (with simple walk animation) =====
-        float speedFactor = Math.min(1f, Math.abs(velocity.x) / MOVE_SPEED);
-        float walkPhase = stateTime * WALK_ANIM_SPEED;
-        float swing = MathUtils.sin(walkPhase) * WALK_ANIM_INTENSITY * legsHeight * speedFactor;
-
         float legWidth = bodyWidth * 0.30f;
 
         // Back leg (slightly darker, behind)
@@ -230,40 +374,7 @@ public class VenomPlayer {
         float jawX = facingRight ? jawXRight : mirrorX(jawXRight, jawWidth, centerX);
         renderer.rect(jawX, jawY, jawWidth, jawHeight);
 
-// ===== TONGUE (only when active) =====
-        if (tongueActive) {
-            // 0→1 over the tongue animation
-            float t = tongueTimer / TONGUE_DURATION;
-            t = MathUtils.clamp(t, 0f, 1f);
-
-            // Extend then retract (0→1→0)
-            float phase;
-            if (t <= 0.5f) {
-                phase = t * 2f;          // 0→1
-            } else {
-                phase = (1f - t) * 2f;   // 1→0
-            }
-
-            float tongueLength   = TONGUE_MAX_LENGTH * phase;
-            float tongueThickness = bounds.height * 0.12f;
-
-            // Base of tongue: around middle of jaw
-            float baseY = jawY + jawHeight * 0.6f;
-            float baseX = facingRight ? (jawX + jawWidth) : jawX;
-
-            renderer.setColor(0.8f, 0.15f, 0.15f, 1f); // red tongue
-
-            // Draw as a rectangle sticking out from the mouth
-            if (facingRight) {
-                renderer.rect(baseX, baseY - tongueThickness / 2f,
-                    tongueLength, tongueThickness);
-            } else {
-                renderer.rect(baseX - tongueLength, baseY - tongueThickness / 2f,
-                    tongueLength, tongueThickness);
-            }
-        }
-
-// Teeth inside jaw (draw on top of tongue)
+        // Teeth inside jaw
         renderer.setColor(Color.WHITE);
         int teethCount = 5;
         float mouthInnerWidth = jawWidth * 0.85f;
@@ -310,7 +421,7 @@ public class VenomPlayer {
 
 
     // Mirrors an x position around a vertical center line.
-    private float mirrorX(float x, float width, float center) {
+    private static float mirrorX(float x, float width, float center) {
         // Take the right edge (x + width), mirror it around center,
         // then subtract width to get the new left edge.
         return 2f * center - (x + width);
@@ -346,7 +457,8 @@ public class VenomPlayer {
         return facingRight;
     }
 
-    // Area in front of the mouth, used for hitting collectibles later
+    // Area in front of the mouth, used for hitting collectibles later.
+    // Null while the tongue is in; otherwise updated in place, so don't hold on to it across ticks.
     public Rectangle getTongueHitbox() {
         if (!tongueActive) return null;
 
@@ -358,7 +470,7 @@ public class VenomPlayer {
         float x = facingRight ? baseX : baseX - length;
         float y = baseY - thickness / 2f;
 
-        return new Rectangle(x, y, length, thickness);
+        return tongueHitbox.set(x, y, length, thickness);
     }
 
 
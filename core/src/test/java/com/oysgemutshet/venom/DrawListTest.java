@@ -0,0 +1,121 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/** The sorted command stream, inspected without drawing anything */
+public class DrawListTest {
+
+    private static TextureRegion atlasA;
+    private static TextureRegion atlasB;
+
+    @BeforeClass
+    public static void fakeTextures() {
+        // Textures only need a GL (and Graphics) that answers; nothing is uploaded or drawn
+        Gdx.gl = Gdx.gl20 = stub(GL20.class);
+        Gdx.graphics = stub(Graphics.class);
+        atlasA = new TextureRegion(new Texture(new EmptyData()));
+        atlasB = new TextureRegion(new Texture(new EmptyData()));
+    }
+
+    @Test
+    public void sortsByLayerThenRendererBlendAndTexture() {
+        DrawList list = new DrawList(4);
+        float white = 0f;
+
+        list.rect(DrawList.LAYER_HUD, 0f, 0f, 10f, 10f, white);                          // 0
+        list.circle(DrawList.LAYER_PROJECTILES, 5f, 5f, 3f, white);                      // 1
+        list.rect(DrawList.LAYER_CHARACTERS, 0f, 0f, 10f, 10f, white);                   // 2
+        list.sprite(DrawList.LAYER_CHARACTERS, atlasB, 0f, 0f, 8f, 8f, white, false);    // 3
+        list.sprite(DrawList.LAYER_CHARACTERS, atlasA, 0f, 0f, 8f, 8f, white, true);     // 4
+        list.sprite(DrawList.LAYER_CHARACTERS, atlasA, 0f, 0f, 8f, 8f, white, false);    // 5
+        list.sprite(DrawList.LAYER_CHARACTERS, atlasB, 0f, 0f, 8f, 8f, white, false);    // 6
+        list.sort();
+
+        // Characters: straight-alpha sprites grouped by texture (B was seen first), then the
+        // premultiplied one, then shapes; projectiles; HUD
+        DrawList.Kind[] kinds = {
+            DrawList.Kind.SPRITE, DrawList.Kind.SPRITE, DrawList.Kind.SPRITE, DrawList.Kind.SPRITE,
+            DrawList.Kind.RECT, DrawList.Kind.CIRCLE, DrawList.Kind.RECT
+        };
+        int[] layers = {
+            DrawList.LAYER_CHARACTERS, DrawList.LAYER_CHARACTERS, DrawList.LAYER_CHARACTERS, DrawList.LAYER_CHARACTERS,
+            DrawList.LAYER_CHARACTERS, DrawList.LAYER_PROJECTILES, DrawList.LAYER_HUD
+        };
+        Texture[] textures = {
+            atlasB.getTexture(), atlasB.getTexture(), atlasA.getTexture(), atlasA.getTexture(), null, null, null
+        };
+
+        assertEquals(kinds.length, list.size());
+        for (int p = 0; p < list.size(); p++) {
+            assertEquals("kind at " + p, kinds[p], list.getKind(p));
+            assertEquals("layer at " + p, layers[p], list.getLayer(p));
+            assertSame("texture at " + p, textures[p], list.getTexture(p));
+        }
+    }
+
+    @Test
+    public void circlesMergeIntoShapesWithoutACircleBatch() {
+        DrawList list = new DrawList(16);
+        list.sprite(DrawList.LAYER_CHARACTERS, atlasA, 0f, 0f, 8f, 8f, 0f, true);
+        list.rect(DrawList.LAYER_CHARACTERS, 0f, 0f, 10f, 10f, 0f);
+        list.circle(DrawList.LAYER_PROJECTILES, 5f, 5f, 3f, 0f);
+        list.circle(DrawList.LAYER_PROJECTILES, 9f, 5f, 3f, 0f);
+        list.rect(DrawList.LAYER_HUD, 0f, 0f, 10f, 10f, 0f);
+
+        // sprites | rect | circles | rect
+        assertEquals(4, list.countPasses(true));
+        // sprites | rect + circles + rect, all ShapeRenderer
+        assertEquals(2, list.countPasses(false));
+    }
+
+    @Test
+    public void clearEmptiesTheList() {
+        DrawList list = new DrawList(16);
+        list.rect(DrawList.LAYER_HUD, 0f, 0f, 10f, 10f, 0f);
+        list.sprite(DrawList.LAYER_CHARACTERS, atlasA, 0f, 0f, 8f, 8f, 0f, false);
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertEquals(0, list.countPasses(true));
+    }
+
+    /** Every method does nothing and returns 1, false, 0 or null */
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Class<?> r = method.getReturnType();
+            if (r == int.class) return 1;
+            if (r == boolean.class) return false;
+            if (r == float.class) return 0f;
+            if (r == long.class) return 0L;
+            return null;
+        }));
+    }
+
+    /** 1x1 texture data with nothing to upload */
+    private static class EmptyData implements TextureData {
+        @Override public TextureDataType getType() { return TextureDataType.Custom; }
+        @Override public boolean isPrepared() { return true; }
+        @Override public void prepare() { }
+        @Override public Pixmap consumePixmap() { return null; }
+        @Override public boolean disposePixmap() { return false; }
+        @Override public void consumeCustomData(int target) { }
+        @Override public int getWidth() { return 1; }
+        @Override public int getHeight() { return 1; }
+        @Override public Pixmap.Format getFormat() { return Pixmap.Format.RGBA8888; }
+        @Override public boolean useMipMaps() { return false; }
+        @Override public boolean isManaged() { return false; }
+    }
+}
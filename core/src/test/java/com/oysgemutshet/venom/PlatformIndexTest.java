@@ -0,0 +1,46 @@
+package com.oysgemutshet.venom;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PlatformIndexTest {
+
+    /** Every query must find exactly the platforms a pass over all of them finds, street included */
+    @Test
+    public void queryMatchesBruteForce() {
+        Random random = new Random(3);
+        Array<Rectangle> platforms = new Array<>();
+        platforms.add(new Rectangle(-1000f, 50f, 300_000f, 30f)); // street under the whole level
+        platforms.add(new Rectangle(20_000f, 0f, 5_000f, 40f));   // a long bridge somewhere in the middle
+        for (int i = 0; i < 1000; i++) {
+            platforms.add(new Rectangle(random.nextFloat() * 250_000f, 100f + random.nextFloat() * 400f,
+                40f + random.nextFloat() * 300f, 20f));
+        }
+        PlatformIndex index = new PlatformIndex(platforms);
+        IntArray found = new IntArray();
+
+        for (int q = 0; q < 2000; q++) {
+            float x0 = random.nextFloat() * 260_000f - 5_000f;
+            float x1 = x0 + random.nextFloat() * 500f;
+
+            found.clear();
+            index.query(x0, x1, found);
+
+            int expected = 0;
+            for (Rectangle p : platforms) {
+                if (p.x < x1 && p.x + p.width > x0) expected++;
+            }
+            assertEquals("platforms in [" + x0 + ", " + x1 + ")", expected, found.size);
+            for (int n = 0; n < found.size; n++) {
+                int i = found.get(n);
+                assertEquals(true, index.minX(i) < x1 && index.maxX(i) > x0);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.oysgemutshet.venom;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Level 1 tick, collisions included, must not allocate once it is warmed up: pooled
+ * entities, cached bounds and the spatial hash are all reused. Measured with the JVM's
+ * per-thread allocation counter over three windows of 10k gameplay ticks of scripted play.
+ * <p>
+ * The windows are summed, not compared, so a pool refill or an array growth that only some
+ * spawn patterns reach counts as much as garbage made on every tick. The small tolerance is
+ * for HotSpot, which charges a couple of hundred bytes to the thread now and then when compiled
+ * code first takes a rare branch and is deoptimized; {@code -Xint} runs measure exactly 0.
+ */
+public class TickAllocationTest {
+
+    private static final float DELTA = 1f / 60f;
+    private static final int WARMUP_TICKS = 100_000;
+    private static final int MEASURED_TICKS = 10_000;
+    private static final int WINDOWS = 3;
+    private static final long TOLERANCE_BYTES = 256L; // over all windows together
+
+    // Run right, jump, spit, run left, tongue, ...; presses last one tick like real key presses
+    private static final InputSnapshot[] SCRIPT = {
+        InputSnapshot.of(1, false, false, false, false, false),
+        InputSnapshot.of(1, true, false, false, false, false),
+        InputSnapshot.of(1, false, true, false, false, false),
+        InputSnapshot.of(-1, false, false, false, false, false),
+        InputSnapshot.of(-1, false, false, true, false, false),
+        InputSnapshot.of(-1, false, true, false, false, false),
+        InputSnapshot.of(0, true, false, false, false, false),
+        InputSnapshot.of(0, false, false, false, false, false),
+    };
+    private static final int TICKS_PER_STEP = 15;
+
+    @Test
+    public void gameplayTicksAllocateNothing() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("needs com.sun.management.ThreadMXBean",
+            bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue("thread allocation counting not supported", threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        LevelOneSimulation sim = new LevelOneSimulation(7L, 0f);
+        sim.skipToGameplay();
+
+        // Warm up: fills the pools and grows the arrays to their working size, and lets the JIT settle
+        int tick = run(sim, 0, WARMUP_TICKS);
+
+        // What reading the counter itself costs, so it can be taken off the result
+        long overhead = threads.getThreadAllocatedBytes(threadId);
+        overhead = threads.getThreadAllocatedBytes(threadId) - overhead;
+
+        long[] allocated = new long[WINDOWS];
+        long total = 0L;
+        for (int w = 0; w < WINDOWS; w++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            tick = run(sim, tick, MEASURED_TICKS);
+            allocated[w] = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+            total += allocated[w];
+        }
+
+        assertTrue("bytes allocated per window of " + MEASURED_TICKS + " ticks: "
+            + Arrays.toString(allocated), total <= TOLERANCE_BYTES);
+    }
+
+    /** Ticks the level with the script; when Venom dies it restarts in place. */
+    private static int run(LevelOneSimulation sim, int tick, int count) {
+        for (int i = 0; i < count; i++, tick++) {
+            int step = tick / TICKS_PER_STEP;
+            boolean firstTickOfStep = tick % TICKS_PER_STEP == 0;
+            InputSnapshot input = SCRIPT[step % SCRIPT.length];
+            if (!firstTickOfStep) {
+                input = InputSnapshot.of((int) input.getMoveAxis(), false, false, false, false, false);
+            }
+            sim.update(DELTA, input);
+            if (sim.isGameOver()) {
+                sim.reset(tick);
+                sim.skipToGameplay();
+            }
+        }
+        return tick;
+    }
+}
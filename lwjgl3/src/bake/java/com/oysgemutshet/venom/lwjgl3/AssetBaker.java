@@ -0,0 +1,53 @@
+package com.oysgemutshet.venom.lwjgl3;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.oysgemutshet.venom.FontService;
+
+import java.io.File;
+
+/**
+ * Build-time half of FontService: rasterizes every TTF under assets/fonts into a distance
+ * field BMFont (.fnt + PNG pages next to the TTF), so the game loads fonts without running
+ * FreeType. Run with {@code gradlew lwjgl3:bakeAssets} after adding or changing a font, or
+ * after changing FontService's glyph size or spread, and commit the output.
+ */
+public class AssetBaker {
+
+    public static void main(String[] args) {
+        File assets = new File(args.length > 0 ? args[0] : "assets");
+        File[] ttfs = new File(assets, "fonts").listFiles((dir, name) -> name.toLowerCase().endsWith(".ttf"));
+        if (ttfs == null || ttfs.length == 0) {
+            System.err.println("No fonts found in " + new File(assets, "fonts").getAbsolutePath());
+            System.exit(1);
+        }
+
+        GdxNativesLoader.load(); // Pixmap; FreeType loads its own natives
+        BitmapFontWriter.setOutputFormat(BitmapFontWriter.OutputFormat.Text);
+        for (File ttf : ttfs) {
+            bakeFont(new FileHandle(ttf));
+        }
+    }
+
+    private static void bakeFont(FileHandle ttf) {
+        long start = System.nanoTime();
+        PixmapPacker packer = FontService.newPacker();
+        BitmapFont.BitmapFontData data = FontService.rasterize(ttf, packer);
+
+        BitmapFontWriter.FontInfo info = new BitmapFontWriter.FontInfo(ttf.nameWithoutExtension(), FontService.GLYPH_SIZE);
+        // The reader would shift glyphs by a padding entry (FontService already did) and
+        // re-derive cap height etc. from the padded glyphs: write no padding, exact metrics
+        info.padding = new BitmapFontWriter.Padding(0, 0, 0, 0);
+        info.overrideMetrics(data);
+        String[] pages = BitmapFontWriter.writePixmaps(packer.getPages(), ttf.parent(), ttf.nameWithoutExtension());
+        FileHandle fnt = ttf.sibling(ttf.nameWithoutExtension() + ".fnt");
+        BitmapFontWriter.writeFont(data, pages, fnt, info, packer.getPageWidth(), packer.getPageHeight());
+        packer.dispose();
+
+        System.out.println("Baked " + fnt.path() + " (" + pages.length + " page(s)) in "
+            + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
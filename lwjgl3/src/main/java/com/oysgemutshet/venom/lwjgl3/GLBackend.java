@@ -0,0 +1,103 @@
+package com.oysgemutshet.venom.lwjgl3;
+
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Which OpenGL the desktop game runs on:
+ * <ul>
+ *     <li>{@code angle}: GLES 2 emulated by ANGLE on top of the platform's native API. Slowest,
+ *     but works around broken GL drivers.</li>
+ *     <li>{@code gl20}: the driver's own GL 2.0.</li>
+ *     <li>{@code gl32}: a GL 3.2 core profile context. Gives the renderers VAOs and instanced
+ *     drawing (see CircleBatch) without a translation layer.</li>
+ *     <li>{@code auto} (default): gl32 on Linux, angle elsewhere.</li>
+ * </ul>
+ * Chosen with {@code --gl=<mode>} or {@code -Dvenom.gl=<mode>}. Before committing to gl32 a
+ * hidden window is created to check the driver can make such a context; if not, we fall back
+ * to ANGLE instead of failing on startup.
+ */
+public final class GLBackend {
+
+    public enum Mode { AUTO, ANGLE, GL20, GL32 }
+
+    private GLBackend() {
+    }
+
+    /** Mode requested on the command line or in the venom.gl property; AUTO if neither */
+    public static Mode fromArgs(String[] args) {
+        String value = System.getProperty("venom.gl", "auto");
+        for (String arg : args) {
+            if (arg.startsWith("--gl=")) value = arg.substring("--gl=".length());
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown --gl mode '" + value + "', expected angle, gl20, gl32 or auto");
+            return Mode.AUTO;
+        }
+    }
+
+    /**
+     * Resolves AUTO and the fallback, then sets up the configuration for the result.
+     *
+     * @return the mode actually used (never AUTO)
+     */
+    public static Mode configure(Lwjgl3ApplicationConfiguration configuration, Mode requested) {
+        Mode mode = requested;
+        if (mode == Mode.AUTO) {
+            mode = System.getProperty("os.name", "").toLowerCase().contains("linux") ? Mode.GL32 : Mode.ANGLE;
+        }
+        if (mode == Mode.GL32 && !canCreateCoreContext(3, 2)) {
+            System.err.println("No OpenGL 3.2 core profile available, falling back to ANGLE");
+            mode = Mode.ANGLE;
+        }
+
+        switch (mode) {
+            case GL32:
+                configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL32, 3, 2);
+                // Core profile GLSL: the game's shaders (and libGDX's own) are written in GLSL ES 1.00
+                ShaderProgram.prependVertexCode = "#version 150\n#define attribute in\n#define varying out\n";
+                ShaderProgram.prependFragmentCode = "#version 150\n#define varying in\n#define texture2D texture\n"
+                    + "#define gl_FragColor fragColor\nout vec4 fragColor;\n";
+                break;
+            case GL20:
+                configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL20, 2, 0);
+                break;
+            default:
+                configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.ANGLE_GLES20, 0, 0);
+                break;
+        }
+        return mode;
+    }
+
+    /** Tries to open a hidden window with a core profile context of that version */
+    private static boolean canCreateCoreContext(int major, int minor) {
+        // GLFW has to be initialized by libGDX, which sets its init hints first and would skip
+        // them (and its error callback) if it found GLFW already up; asking for the display
+        // mode makes it do that now if it hasn't yet
+        try {
+            Lwjgl3ApplicationConfiguration.getDisplayMode();
+        } catch (GdxRuntimeException e) {
+            return false; // no GLFW at all; the application will report it
+        }
+        try {
+            GLFW.glfwDefaultWindowHints();
+            GLFW.glfwWindowHint(GLFW.GLFW_VISIBLE, GLFW.GLFW_FALSE);
+            GLFW.glfwWindowHint(GLFW.GLFW_CLIENT_API, GLFW.GLFW_OPENGL_API);
+            GLFW.glfwWindowHint(GLFW.GLFW_CONTEXT_VERSION_MAJOR, major);
+            GLFW.glfwWindowHint(GLFW.GLFW_CONTEXT_VERSION_MINOR, minor);
+            GLFW.glfwWindowHint(GLFW.GLFW_OPENGL_PROFILE, GLFW.GLFW_OPENGL_CORE_PROFILE);
+            GLFW.glfwWindowHint(GLFW.GLFW_OPENGL_FORWARD_COMPAT, GLFW.GLFW_TRUE); // required on macOS
+            long window = GLFW.glfwCreateWindow(16, 16, "", 0L, 0L);
+            if (window == 0L) return false;
+            GLFW.glfwDestroyWindow(window);
+            return true;
+        } finally {
+            // Leave GLFW initialized, libGDX owns it; just don't leave our hints behind for its window
+            GLFW.glfwDefaultWindowHints();
+        }
+    }
+}
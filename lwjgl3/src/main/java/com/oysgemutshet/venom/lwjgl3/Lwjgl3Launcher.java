@@ -2,18 +2,54 @@ package com.oysgemutshet.venom.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.oysgemutshet.venom.TelemetryRecorder;
 import com.oysgemutshet.venom.VengeanceOfVenomGame;
 import com.oysgemutshet.venom.lwjgl3.StartupHelper;
 
+import java.io.File;
+
 
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
+    }
+
+    private static Lwjgl3Application createApplication(String[] args) {
+        VengeanceOfVenomGame game = new VengeanceOfVenomGame();
+
+        // Telemetry is opt-in: --telemetry, or -Dvenom.telemetry=true (survives the macOS JVM restart)
+        boolean telemetry = Boolean.getBoolean("venom.telemetry");
+        for (String arg : args) {
+            if (arg.equals("--telemetry")) telemetry = true;
+        }
+        if (telemetry) {
+            game.setTelemetry(new TelemetryRecorder(new File(getAppDataDirectory(), "telemetry")));
+        }
+
+        // GL backend: --gl=angle|gl20|gl32|auto, or -Dvenom.gl=... (see GLBackend)
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration();
+        GLBackend.Mode gl = GLBackend.configure(configuration, GLBackend.fromArgs(args));
+        game.setGLBackend(gl.name().toLowerCase());
+
+        return new Lwjgl3Application(game, configuration);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new VengeanceOfVenomGame(), getDefaultConfiguration());
+    /** Per-user local data folder: %LOCALAPPDATA% on Windows, Application Support on macOS, XDG on Linux */
+    private static File getAppDataDirectory() {
+        String os = System.getProperty("os.name", "").toLowerCase();
+        String home = System.getProperty("user.home");
+        File base;
+        if (os.contains("win") && System.getenv("LOCALAPPDATA") != null) {
+            base = new File(System.getenv("LOCALAPPDATA"));
+        } else if (os.contains("mac")) {
+            base = new File(home, "Library/Application Support");
+        } else if (System.getenv("XDG_DATA_HOME") != null) {
+            base = new File(System.getenv("XDG_DATA_HOME"));
+        } else {
+            base = new File(home, ".local/share");
+        }
+        return new File(base, "TheVengeanceOfVenom");
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
@@ -35,12 +71,6 @@ public class Lwjgl3Launcher {
             "libgdx16.png"
         );
 
-        configuration.setOpenGLEmulation(
-            Lwjgl3ApplicationConfiguration.GLEmulation.ANGLE_GLES20,
-            0,
-            0
-        );
-
         return configuration;
     }
 }